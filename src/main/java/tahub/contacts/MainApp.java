@@ -1,7 +1,13 @@
 package tahub.contacts;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -15,6 +21,10 @@ import tahub.contacts.commons.util.ConfigUtil;
 import tahub.contacts.commons.util.StringUtil;
 import tahub.contacts.logic.Logic;
 import tahub.contacts.logic.LogicManager;
+import tahub.contacts.logic.ScriptRunner;
+import tahub.contacts.logic.commands.exceptions.CommandException;
+import tahub.contacts.logic.parser.AddressBookParser;
+import tahub.contacts.logic.parser.exceptions.ParseException;
 import tahub.contacts.model.AddressBook;
 import tahub.contacts.model.Model;
 import tahub.contacts.model.ModelManager;
@@ -24,7 +34,10 @@ import tahub.contacts.model.UserPrefs;
 import tahub.contacts.model.course.UniqueCourseList;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
 import tahub.contacts.model.util.SampleDataUtil;
-import tahub.contacts.storage.AddressBookStorage;
+import tahub.contacts.storage.BinaryAddressBookStorage;
+import tahub.contacts.storage.BinaryStudentCourseAssociationListStorage;
+import tahub.contacts.storage.BinaryUniqueCourseListStorage;
+import tahub.contacts.storage.CommandJournal;
 import tahub.contacts.storage.JsonAddressBookStorage;
 import tahub.contacts.storage.JsonStudentCourseAssociationListStorage;
 import tahub.contacts.storage.JsonUniqueCourseListStorage;
@@ -52,35 +65,108 @@ public class MainApp extends Application {
 
     @Override
     public void init() throws Exception {
-        logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Executes the commands of the script given in {@code appParameters}, or of the standard input if there is none,
+     * without starting JavaFX. The data is loaded and saved as when the GUI is used.
+     *
+     * @return the exit status of the application, which is non-zero if any command failed
+     */
+    public static int runHeadless(AppParameters appParameters) {
+        MainApp app = new MainApp();
+        app.initComponents(appParameters);
+        app.logic.setSaveFailureHandler(System.err::println);
+
+        int exitStatus;
+        Path scriptPath = appParameters.getScriptPath();
+        try (BufferedReader script = scriptPath != null
+                ? Files.newBufferedReader(scriptPath)
+                : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            ScriptRunner.Summary summary = new ScriptRunner(app.logic, System.out).run(script);
+            exitStatus = summary.getFailureCount() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to read script " + StringUtil.getDetails(e));
+            System.err.println("Could not read the script: " + e.getMessage());
+            exitStatus = 1;
+        }
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        app.stop();
+        return exitStatus;
+    }
+
+    /**
+     * Initializes the config, storage, model and logic of the application with the given {@code appParameters}.
+     */
+    private void initComponents(AppParameters appParameters) {
+        logger.info("=============================[ Initializing AddressBook ]===========================");
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        JsonUniqueCourseListStorage courseListStorage =
-                new JsonUniqueCourseListStorage(userPrefs.getCourseListFilePath());
-        JsonStudentCourseAssociationListStorage scaListStorage =
-                new JsonStudentCourseAssociationListStorage(userPrefs.getScaListFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, courseListStorage, scaListStorage);
+        storage = initStorage(userPrefsStorage, userPrefs);
+        CommandJournal journal = new CommandJournal(userPrefs.getJournalFilePath());
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, journal);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, journal);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns a {@code StorageManager} that stores the data files in the format chosen in {@code userPrefs}.
+     * If the data files in the other format are newer, which happens when the format was switched since the data
+     * was last saved, they are imported so that switching formats, in either direction, keeps the latest data.
+     */
+    private StorageManager initStorage(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        boolean isCompact = userPrefs.isCompactJson();
+        StorageManager jsonStorage = new StorageManager(
+                new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), isCompact), userPrefsStorage,
+                new JsonUniqueCourseListStorage(userPrefs.getCourseListFilePath(), isCompact),
+                new JsonStudentCourseAssociationListStorage(userPrefs.getScaListFilePath(), isCompact));
+        StorageManager binaryStorage = new StorageManager(
+                new BinaryAddressBookStorage(toBinaryFilePath(userPrefs.getAddressBookFilePath())), userPrefsStorage,
+                new BinaryUniqueCourseListStorage(toBinaryFilePath(userPrefs.getCourseListFilePath())),
+                new BinaryStudentCourseAssociationListStorage(toBinaryFilePath(userPrefs.getScaListFilePath())));
+
+        boolean isBinary = userPrefs.getStorageFormat() == UserPrefs.StorageFormat.BINARY;
+        StorageManager selectedStorage = isBinary ? binaryStorage : jsonStorage;
+        StorageManager otherStorage = isBinary ? jsonStorage : binaryStorage;
+        try {
+            Optional<FileTime> selectedTime = selectedStorage.getLastModifiedTime();
+            Optional<FileTime> otherTime = otherStorage.getLastModifiedTime();
+            if (otherTime.isPresent()
+                    && (selectedTime.isEmpty() || otherTime.get().compareTo(selectedTime.get()) > 0)) {
+                logger.info("Converting the newer data files to the " + userPrefs.getStorageFormat() + " format");
+                selectedStorage.importFrom(otherStorage);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data files could not be converted to the " + userPrefs.getStorageFormat()
+                    + " format: " + e.getMessage());
+        }
+        return selectedStorage;
+    }
+
+    /**
+     * Returns the path of the binary data file that corresponds to the JSON data file at {@code jsonFilePath}.
+     */
+    private static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName;
+        return jsonFilePath.resolveSibling(baseName + ".bin");
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The commands recorded in {@code journal} are then replayed on top of the loaded data.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, CommandJournal journal) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -101,7 +187,7 @@ public class MainApp extends Application {
         Optional<UniqueCourseList> courseListOptional;
         UniqueCourseList initialCourseList;
         try {
-            courseListOptional = storage.readCourseList(userPrefs.getCourseListFilePath());
+            courseListOptional = storage.readCourseList();
             if (courseListOptional.isEmpty()) {
                 logger.info("Creating a new course list file " + storage.getCourseListFilePath()
                         + " populated with a sample CourseList.");
@@ -116,7 +202,7 @@ public class MainApp extends Application {
         Optional<StudentCourseAssociationList> scaListOptional;
         StudentCourseAssociationList initialScaList;
         try {
-            scaListOptional = storage.readScaList(userPrefs.getScaListFilePath(), initialData, initialCourseList);
+            scaListOptional = storage.readScaList(storage.getScaListFilePath(), initialData, initialCourseList);
             if (scaListOptional.isEmpty()) {
                 logger.info("Creating a new sca list in the " + storage.getScaListFilePath()
                         + " file, populated with a sample SCA list.");
@@ -128,7 +214,41 @@ public class MainApp extends Application {
             initialScaList = new StudentCourseAssociationList();
         }
 
-        return new ModelManager(initialData, userPrefs, initialCourseList, initialScaList);
+        Model initialModel = new ModelManager(initialData, userPrefs, initialCourseList, initialScaList);
+        replayJournal(journal, initialModel);
+        return initialModel;
+    }
+
+    /**
+     * Re-executes on {@code model} the commands recorded in {@code journal} since the data files were last saved.
+     * Entries that can no longer be executed are skipped.
+     */
+    private void replayJournal(CommandJournal journal, Model model) {
+        List<String> entries;
+        try {
+            entries = journal.readEntries();
+        } catch (DataLoadingException e) {
+            logger.warning("Journal file at " + journal.getJournalFilePath() + " could not be loaded."
+                    + " Changes made since the data files were last saved will be missing.");
+            return;
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+        logger.info("Replaying " + entries.size() + " commands from journal " + journal.getJournalFilePath());
+
+        AddressBookParser parser = new AddressBookParser();
+        for (String entry : entries) {
+            try {
+                parser.parseCommand(entry).execute(model);
+                // replayed commands can be undone like those of this session
+                model.publishSnapshot();
+            } catch (CommandException | ParseException e) {
+                logger.warning("Skipping journal entry that could not be replayed: " + entry
+                        + " (" + e.getMessage() + ")");
+            }
+        }
     }
 
     private void initLogging(Config config) {
@@ -214,6 +334,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flushPendingSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
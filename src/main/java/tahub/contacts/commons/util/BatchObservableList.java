@@ -0,0 +1,61 @@
+package tahub.contacts.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose modifications can be grouped, so that listeners see them as one change.
+ * <p>
+ * Modifications made inside {@link #batch(Runnable)} are collected into a single
+ * {@link javafx.collections.ListChangeListener.Change} (with one sub-change per modified range), which is fired
+ * once the outermost batch ends. Outside a batch, the list behaves like {@code FXCollections.observableArrayList()}.
+ *
+ * @param <E> the type of the elements
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Runs {@code modifications}, which modify this list, and fires one change for all of them at the end.
+     * Batches may be nested, in which case the change is fired when the outermost batch ends.
+     */
+    public void batch(Runnable modifications) {
+        requireNonNull(modifications);
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -0,0 +1,46 @@
+package tahub.contacts.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, keyed by the string the value is created from.
+ * Equal values obtained through the pool are the same instance, so the value is validated and stored only once.
+ * <p>
+ * Values are held weakly, and are dropped from the pool once nothing else refers to them. For this to work, the
+ * value created from a key must keep that same key string, as the key is only held weakly by the pool too.
+ *
+ * @param <T> the type of the values
+ */
+public class Interner<T> {
+
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Constructs an empty pool whose values are created by {@code factory}.
+     */
+    public Interner(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it with the factory if there is none in the pool.
+     * Exceptions thrown by the factory are passed on, and nothing is added to the pool in that case.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = pool.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            pool.put(key, new WeakReference<>(value));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,156 @@
+package tahub.contacts.commons.util;
+
+import static tahub.contacts.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from {@code long} keys to non-negative {@code int} values, which stores both in primitive arrays so
+ * neither lookups nor updates allocate.
+ * <p>
+ * Entries are kept in a single open-addressing table with linear probing. Removal shifts later entries of the same
+ * probe sequence back, so there are no tombstones and lookups never slow down after many removals.
+ * Since values are never negative, {@link #MISSING} is returned for absent keys and marks empty table slots.
+ */
+public class LongIntHashMap {
+    /** The value returned for keys that are not in the map. */
+    public static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     */
+    public LongIntHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@link #MISSING} if the map has no entry for it.
+     */
+    public int get(long key) {
+        for (int slot = slotOf(key); values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Returns true if the map has an entry for {@code key}.
+     */
+    public boolean containsKey(long key) {
+        return get(key) != MISSING;
+    }
+
+    /**
+     * Sets the value of {@code key} to {@code value}.
+     *
+     * @return the previous value of {@code key}, or {@link #MISSING} if the map had no entry for it
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public int put(long key, int value) {
+        checkArgument(value >= 0, "Values must not be negative");
+        int slot = slotOf(key);
+        for (; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        return MISSING;
+    }
+
+    /**
+     * Removes the entry for {@code key}, if there is one.
+     *
+     * @return the value of the removed entry, or {@link #MISSING} if the map had no entry for {@code key}
+     */
+    public int remove(long key) {
+        int slot = slotOf(key);
+        for (; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Removes all entries, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, MISSING);
+        size = 0;
+    }
+
+    /**
+     * Empties {@code slot} and moves back the entries after it that would no longer be found past the gap.
+     */
+    private void shiftBack(int slot) {
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] != MISSING; next = (next + 1) & mask) {
+            int home = slotOf(keys[next]);
+            // the entry can fill the gap unless its home slot lies cyclically in (gap, next]
+            boolean homeAfterGap = gap <= next ? gap < home && home <= next : gap < home || home <= next;
+            if (!homeAfterGap) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        values[gap] = MISSING;
+    }
+
+    private int slotOf(long key) {
+        return (int) ((key * HASH_MULTIPLIER) >>> 32) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != MISSING) {
+                int slot = slotOf(oldKeys[i]);
+                while (values[slot] != MISSING) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
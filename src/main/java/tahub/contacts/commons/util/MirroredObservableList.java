@@ -0,0 +1,107 @@
+package tahub.contacts.commons.util;
+
+import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an observable list that is kept up to date on another thread.
+ * <p>
+ * The source list may be modified on one thread (such as the thread that executes commands) while the copy is read
+ * on another (such as the JavaFX Application Thread). Every change of the source is recorded by the thread that made
+ * it as the ranges it replaced, holding only the elements that were added, and the recorded ranges are replayed on
+ * the copy through the given executor, in the same order. Recording a change costs as much as the elements it adds,
+ * however long the source is.
+ * Changes of the source made while a replay is still waiting for the executor are replayed with it, as one change
+ * of the copy, so a burst of changes (such as those of a batch of commands) is seen as one change of the copy.
+ *
+ * @param <E> the type of the elements
+ */
+public class MirroredObservableList<E> {
+
+    private final BatchObservableList<E> internalList = new BatchObservableList<>();
+    private final ObservableList<E> internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+
+    /** The ranges replaced in the source since the last replay, or null if no replay is waiting for the executor. */
+    private List<Replacement<E>> pendingReplacements;
+
+    /**
+     * Constructs a copy of {@code source}, which {@code executor} brings up to date after every change of
+     * {@code source}. The current elements of {@code source} are copied by the calling thread.
+     */
+    public MirroredObservableList(ObservableList<? extends E> source, Executor executor) {
+        requireAllNonNull(source, executor);
+        internalList.setAll(source);
+        source.addListener((ListChangeListener<E>) change -> {
+            if (record(change)) {
+                executor.execute(this::replayPending);
+            }
+        });
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * Records the ranges replaced by {@code change}, in the order its sub-changes are to be applied.
+     * Updated elements are the same objects in the copy, so updates are not recorded.
+     *
+     * @return true if no replay was waiting for the executor, so one must be scheduled
+     */
+    private boolean record(ListChangeListener.Change<? extends E> change) {
+        List<Replacement<E>> replacements = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int to = change.getTo();
+                replacements.add(new Replacement<>(from, to - from,
+                        new ArrayList<>(change.getList().subList(from, to))));
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                replacements.add(new Replacement<>(from, change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+
+        synchronized (this) {
+            boolean isReplayWaiting = pendingReplacements != null;
+            if (!isReplayWaiting) {
+                pendingReplacements = new ArrayList<>();
+            }
+            pendingReplacements.addAll(replacements);
+            return !isReplayWaiting;
+        }
+    }
+
+    /**
+     * Replaces the ranges recorded since the last replay in the copy, as one change of the copy.
+     */
+    private void replayPending() {
+        List<Replacement<E>> replacements;
+        synchronized (this) {
+            replacements = pendingReplacements;
+            pendingReplacements = null;
+        }
+        internalList.batch(() -> {
+            for (Replacement<E> replacement : replacements) {
+                int from = replacement.from();
+                internalList.remove(from, from + replacement.removedCount());
+                internalList.addAll(from, replacement.addedElements());
+            }
+        });
+    }
+
+    /**
+     * A range of {@code removedCount} elements from {@code from} replaced with {@code addedElements}.
+     */
+    private record Replacement<E>(int from, int removedCount, List<E> addedElements) {}
+}
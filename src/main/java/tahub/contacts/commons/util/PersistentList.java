@@ -0,0 +1,323 @@
+package tahub.contacts.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list, whose modified versions are made cheaply by sharing most of their structure with it.
+ * <p>
+ * The elements are kept in a balanced binary tree, ordered by position. Setting, inserting or removing an element
+ * copies only the O(log n) nodes on the path to it, and the new version shares every other node with the old one,
+ * so many versions of a large list can be kept at little cost. Getting an element by position takes O(log n) time,
+ * and iterating over the list takes O(n) time.
+ *
+ * @param <E> the type of the elements
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order. Takes O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements[middle], build(elements, middle + 1, to));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} appended to it.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} removed.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the number of leading positions at which this list and {@code other} hold the same element, compared
+     * by reference. Subtrees that the two lists share are skipped without visiting their elements, so the time taken
+     * depends on the number of nodes that are not shared rather than on the size of the lists.
+     */
+    public int commonPrefixLength(PersistentList<E> other) {
+        requireNonNull(other);
+        return commonLength(new SubtreeCursor<>(root, false), new SubtreeCursor<>(other.root, false));
+    }
+
+    /**
+     * Returns the number of trailing positions at which this list and {@code other} hold the same element, compared
+     * by reference. Takes as long as {@link #commonPrefixLength(PersistentList)}. The common prefix and suffix may
+     * overlap, such as when one list is a prefix of the other.
+     */
+    public int commonSuffixLength(PersistentList<E> other) {
+        requireNonNull(other);
+        return commonLength(new SubtreeCursor<>(root, true), new SubtreeCursor<>(other.root, true));
+    }
+
+    private static <E> int commonLength(SubtreeCursor<E> cursor, SubtreeCursor<E> otherCursor) {
+        int length = 0;
+        while (!cursor.isDone() && !otherCursor.isDone()) {
+            Node<E> subtree = cursor.peek();
+            Node<E> otherSubtree = otherCursor.peek();
+            boolean isSameElement = subtree.size == 1 && otherSubtree.size == 1
+                    && subtree.element == otherSubtree.element;
+            if (subtree == otherSubtree || isSameElement) {
+                length += subtree.size;
+                cursor.pop();
+                otherCursor.pop();
+            } else if (subtree.size == 1 && otherSubtree.size == 1) {
+                return length;
+            } else if (subtree.size > 1 && subtree.size >= otherSubtree.size) {
+                cursor.split();
+            } else {
+                otherCursor.split();
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            // the nodes whose elements and right subtrees are still to be visited, innermost first
+            private final Deque<Node<E>> pending = new ArrayDeque<>();
+
+            {
+                pushLeftPath(root);
+            }
+
+            private void pushLeftPath(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.left) {
+                    pending.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = pending.pop();
+                pushLeftPath(node.right);
+                return node.element;
+            }
+        };
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.element, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.element, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        } else {
+            return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.element, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node with the given subtrees and element, rotated if the heights of the subtrees differ by two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            return new Node<>(new Node<>(left.left, left.element, left.right.left), left.right.element,
+                    new Node<>(left.right.right, element, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            return new Node<>(new Node<>(left, element, right.left.left), right.left.element,
+                    new Node<>(right.left.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Walks the elements of a tree from one end, as a sequence of subtrees that may be split into smaller ones.
+     * The subtree on top of the stack is the one that holds the next elements of the walk.
+     */
+    private static final class SubtreeCursor<E> {
+        private final Deque<Node<E>> pending = new ArrayDeque<>();
+        private final boolean isFromEnd;
+
+        SubtreeCursor(Node<E> root, boolean isFromEnd) {
+            this.isFromEnd = isFromEnd;
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        boolean isDone() {
+            return pending.isEmpty();
+        }
+
+        Node<E> peek() {
+            return pending.peek();
+        }
+
+        void pop() {
+            pending.pop();
+        }
+
+        /**
+         * Replaces the subtree on top, which has more than one element, by its subtrees and its own element.
+         */
+        void split() {
+            Node<E> node = pending.pop();
+            Node<E> first = isFromEnd ? node.right : node.left;
+            Node<E> last = isFromEnd ? node.left : node.right;
+            if (last != null) {
+                pending.push(last);
+            }
+            pending.push(new Node<>(null, node.element, null));
+            if (first != null) {
+                pending.push(first);
+            }
+        }
+    }
+
+    /**
+     * An immutable node of the tree, which knows the size and height of the subtree rooted at it.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package tahub.contacts.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link BatchObservableList} that also keeps its elements in a {@link PersistentList}, so that its current
+ * contents can be taken as an immutable version in constant time. Each modification of the list costs O(log n) more
+ * time and memory to keep the version up to date.
+ * <p>
+ * Elements that are modified in place are kept in the versions as copies made by a freezer function. After such an
+ * element has been modified, {@link #refreeze(int)} must be called so that later versions have a copy of its new state.
+ *
+ * @param <E> the type of the elements
+ */
+public class VersionedObservableList<E> extends BatchObservableList<E> {
+
+    private final UnaryOperator<E> freezer;
+    private PersistentList<E> version = PersistentList.empty();
+    private boolean isReplacingAll;
+
+    /**
+     * Creates an empty list, whose versions have the same elements as the list.
+     */
+    public VersionedObservableList() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * Creates an empty list, whose versions have the copies that {@code freezer} makes of the elements of the list.
+     */
+    public VersionedObservableList(UnaryOperator<E> freezer) {
+        this.freezer = requireNonNull(freezer);
+    }
+
+    /**
+     * Returns the current contents of the list, which are not affected by later modifications of the list.
+     */
+    public PersistentList<E> getVersion() {
+        return version;
+    }
+
+    /**
+     * Makes later versions have a new copy of the element at {@code index}, after it has been modified in place.
+     */
+    public void refreeze(int index) {
+        Objects.checkIndex(index, size());
+        version = version.with(index, freezer.apply(get(index)));
+    }
+
+    /**
+     * Replaces the contents of the list with {@code elements}. The version is rebuilt in O(n) time, instead of
+     * being modified once per element.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        // rebuild the version before listeners are notified of the change
+        batch(() -> {
+            isReplacingAll = true;
+            try {
+                super.setAll(elements);
+            } finally {
+                isReplacingAll = false;
+                List<E> frozenElements = new ArrayList<>(size());
+                forEach(element -> frozenElements.add(freezer.apply(element)));
+                version = PersistentList.copyOf(frozenElements);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Replaces the contents of the list with the elements of {@code target}, which becomes the version of the list.
+     * Only the elements between the longest prefix and suffix that the current version shares with {@code target}
+     * are replaced, by the copies that {@code thawer} makes of the elements of {@code target}. Restoring a version
+     * that differs from the current one in a few nearby positions therefore takes about as long as the modifications
+     * that separate them, instead of O(n) time.
+     * <p>
+     * The elements of the list must be in the state that the current version has copies of, which holds as long as
+     * every element modified in place has been refrozen.
+     *
+     * @return the elements that were replaced, and those that replaced them
+     */
+    public Restoration<E> restore(PersistentList<E> target, UnaryOperator<E> thawer) {
+        requireNonNull(target);
+        requireNonNull(thawer);
+        int prefixLength = version.commonPrefixLength(target);
+        int suffixLength = Math.min(version.commonSuffixLength(target),
+                Math.min(size(), target.size()) - prefixLength);
+        int removedEnd = size() - suffixLength;
+        List<E> removedElements = new ArrayList<>(subList(prefixLength, removedEnd));
+        List<E> addedElements = new ArrayList<>();
+        for (E element : target.subList(prefixLength, target.size() - suffixLength)) {
+            addedElements.add(thawer.apply(element));
+        }
+
+        // the version is replaced as a whole, before listeners are notified of the change
+        batch(() -> {
+            isReplacingAll = true;
+            try {
+                replaceRange(prefixLength, removedElements.size(), addedElements);
+            } finally {
+                isReplacingAll = false;
+                version = target;
+            }
+        });
+        return new Restoration<>(prefixLength, removedElements, addedElements);
+    }
+
+    /**
+     * Replaces the {@code removedCount} elements from {@code fromIndex} onwards with {@code addedElements}.
+     */
+    private void replaceRange(int fromIndex, int removedCount, List<E> addedElements) {
+        int replacedCount = Math.min(removedCount, addedElements.size());
+        int movedCount = size() - fromIndex - removedCount;
+        long shiftCost = (long) Math.abs(removedCount - addedElements.size()) * movedCount;
+        if (shiftCost > size() + addedElements.size()) {
+            // moving the rest of the list once per inserted or removed element would take longer than rebuilding it
+            List<E> elements = new ArrayList<>(subList(0, fromIndex));
+            elements.addAll(addedElements);
+            elements.addAll(subList(fromIndex + removedCount, size()));
+            super.setAll(elements);
+            return;
+        }
+
+        for (int i = 0; i < replacedCount; i++) {
+            set(fromIndex + i, addedElements.get(i));
+        }
+        for (int i = replacedCount; i < removedCount; i++) {
+            remove(fromIndex + replacedCount);
+        }
+        for (int i = replacedCount; i < addedElements.size(); i++) {
+            add(fromIndex + i, addedElements.get(i));
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        super.doAdd(index, element);
+        if (!isReplacingAll) {
+            version = version.plus(index, freezer.apply(element));
+        }
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E oldElement = super.doSet(index, element);
+        if (!isReplacingAll) {
+            version = version.with(index, freezer.apply(element));
+        }
+        return oldElement;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E oldElement = super.doRemove(index);
+        if (!isReplacingAll) {
+            version = version.minus(index);
+        }
+        return oldElement;
+    }
+
+    /**
+     * The elements that {@link #restore} replaced, which started at position {@code fromIndex}, and the elements
+     * that were put there instead.
+     */
+    public record Restoration<E>(int fromIndex, List<E> removedElements, List<E> addedElements) {
+    }
+}
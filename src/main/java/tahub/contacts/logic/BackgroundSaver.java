@@ -0,0 +1,254 @@
+package tahub.contacts.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.model.ModelSnapshot;
+import tahub.contacts.model.ReadOnlyAddressBook;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+import tahub.contacts.storage.CommandJournal;
+import tahub.contacts.storage.Storage;
+
+/**
+ * Writes snapshots of the model data to {@code Storage} on a single background thread.
+ * A snapshot is a part of a published {@code ModelSnapshot}, which is only turned into the store to save on the
+ * background thread, so nothing is copied on the thread that submits it.
+ * A snapshot that is submitted while an earlier snapshot of the same store is still waiting to be written
+ * replaces it, so only the latest state of each store is written.
+ * A snapshot that fails to be written is written again with the next write, unless a newer one replaces it.
+ * <p>
+ * When a {@code CommandJournal} is given, journal entries are appended in the order they were submitted,
+ * and the journal is cleared once a full snapshot of the data covering those entries has been written.
+ */
+public class BackgroundSaver {
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final CommandJournal journal;
+    private final ExecutorService executor;
+    private Consumer<String> failureHandler = unused -> { };
+
+    private Supplier<ReadOnlyAddressBook> pendingAddressBook;
+    private Supplier<UniqueCourseList> pendingCourseList;
+    private Supplier<StudentCourseAssociationList> pendingScaList;
+    private final List<String> pendingJournalEntries = new ArrayList<>();
+    private int journalEntriesCoveredBySnapshot;
+    private boolean isSnapshotPending;
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a {@code BackgroundSaver} that writes to the given {@code storage}.
+     */
+    public BackgroundSaver(Storage storage) {
+        this(storage, null);
+    }
+
+    /**
+     * Creates a {@code BackgroundSaver} that writes to the given {@code storage} and {@code journal}.
+     */
+    public BackgroundSaver(Storage storage, CommandJournal journal) {
+        this.storage = storage;
+        this.journal = journal;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that receives the error message of every failed save.
+     * The handler is called on the background thread.
+     */
+    public synchronized void setFailureHandler(Consumer<String> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules a save of the address book of {@code snapshot}.
+     */
+    public synchronized void saveAddressBook(ModelSnapshot snapshot) {
+        requireNonNull(snapshot);
+        pendingAddressBook = snapshot::toAddressBook;
+        scheduleWrite();
+    }
+
+    /**
+     * Schedules a save of the course list of {@code snapshot}.
+     */
+    public synchronized void saveCourseList(ModelSnapshot snapshot) {
+        requireNonNull(snapshot);
+        pendingCourseList = snapshot::toCourseList;
+        scheduleWrite();
+    }
+
+    /**
+     * Schedules a save of the SCA list of {@code snapshot}.
+     */
+    public synchronized void saveScaList(ModelSnapshot snapshot) {
+        requireNonNull(snapshot);
+        pendingScaList = snapshot::toScaList;
+        scheduleWrite();
+    }
+
+    /**
+     * Schedules {@code entry} to be appended to the journal.
+     */
+    public synchronized void appendToJournal(String entry) {
+        requireNonNull(entry);
+        assert journal != null : "This saver has no journal";
+        pendingJournalEntries.add(entry);
+        scheduleWrite();
+    }
+
+    /**
+     * Schedules a save of all the data of {@code snapshot}, after which the journal entries submitted so far are
+     * no longer needed and are cleared. If any part of the snapshot fails to save, the entries are kept.
+     */
+    public synchronized void saveSnapshot(ModelSnapshot snapshot) {
+        saveAddressBook(snapshot);
+        saveCourseList(snapshot);
+        saveScaList(snapshot);
+        journalEntriesCoveredBySnapshot = pendingJournalEntries.size();
+        isSnapshotPending = true;
+    }
+
+    /**
+     * Blocks until every snapshot scheduled so far has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves");
+        } catch (ExecutionException e) {
+            logger.warning("Failed to wait for pending saves: " + e.getMessage());
+        }
+    }
+
+    private void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        Supplier<ReadOnlyAddressBook> addressBook;
+        Supplier<UniqueCourseList> courseList;
+        Supplier<StudentCourseAssociationList> scaList;
+        List<String> journalEntries;
+        int coveredEntryCount;
+        boolean isSnapshot;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            courseList = pendingCourseList;
+            scaList = pendingScaList;
+            journalEntries = new ArrayList<>(pendingJournalEntries);
+            coveredEntryCount = journalEntriesCoveredBySnapshot;
+            isSnapshot = isSnapshotPending;
+            pendingAddressBook = null;
+            pendingCourseList = null;
+            pendingScaList = null;
+            pendingJournalEntries.clear();
+            journalEntriesCoveredBySnapshot = 0;
+            isSnapshotPending = false;
+            isWriteScheduled = false;
+        }
+
+        boolean isAddressBookSaved = addressBook == null || write(() -> storage.saveAddressBook(addressBook.get()));
+        boolean isCourseListSaved = courseList == null || write(() -> storage.saveCourseList(courseList.get()));
+        boolean isScaListSaved = scaList == null || write(() -> storage.saveScaList(scaList.get()));
+        boolean isSaved = isAddressBookSaved && isCourseListSaved && isScaListSaved;
+        if (!isSaved) {
+            requeueFailed(isAddressBookSaved ? null : addressBook, isCourseListSaved ? null : courseList,
+                    isScaListSaved ? null : scaList, isSnapshot);
+        }
+
+        if (isSnapshot) {
+            List<String> coveredEntries = journalEntries.subList(0, coveredEntryCount);
+            if (isSaved) {
+                write(journal::clear);
+            } else {
+                write(() -> journal.append(coveredEntries));
+            }
+            journalEntries = journalEntries.subList(coveredEntryCount, journalEntries.size());
+        }
+        if (!journalEntries.isEmpty()) {
+            List<String> entriesToAppend = journalEntries;
+            write(() -> journal.append(entriesToAppend));
+        }
+    }
+
+    /**
+     * Keeps the given snapshots that failed to be written, so that they are written again with the next write,
+     * unless a newer snapshot of the same store has been submitted since. No write is scheduled for them, so
+     * a storage that keeps failing is only retried when there is something new to save.
+     * If they were part of a full snapshot, the journal is only cleared once they have been written.
+     */
+    private synchronized void requeueFailed(Supplier<ReadOnlyAddressBook> addressBook,
+                                            Supplier<UniqueCourseList> courseList,
+                                            Supplier<StudentCourseAssociationList> scaList, boolean isSnapshot) {
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+        if (pendingCourseList == null) {
+            pendingCourseList = courseList;
+        }
+        if (pendingScaList == null) {
+            pendingScaList = scaList;
+        }
+        if (isSnapshot && !isSnapshotPending) {
+            // the covered entries are back in the journal file, and the entries pending now are newer
+            isSnapshotPending = true;
+            journalEntriesCoveredBySnapshot = 0;
+        }
+    }
+
+    /**
+     * Runs {@code storageWrite}, reporting any failure to the failure handler.
+     *
+     * @return true if the write succeeded.
+     */
+    private boolean write(StorageWrite storageWrite) {
+        String message;
+        try {
+            storageWrite.run();
+            return true;
+        } catch (AccessDeniedException e) {
+            message = String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        } catch (IOException ioe) {
+            message = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+        }
+
+        logger.warning(message);
+        Consumer<String> handler;
+        synchronized (this) {
+            handler = failureHandler;
+        }
+        handler.accept(message);
+        return false;
+    }
+
+    /**
+     * A single write to storage.
+     */
+    @FunctionalInterface
+    private interface StorageWrite {
+        void run() throws IOException;
+    }
+}
@@ -2,12 +2,16 @@ package tahub.contacts.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import tahub.contacts.commons.core.GuiSettings;
 import tahub.contacts.logic.commands.CommandResult;
 import tahub.contacts.logic.commands.exceptions.CommandException;
 import tahub.contacts.logic.parser.exceptions.ParseException;
+import tahub.contacts.model.ModelChange;
+import tahub.contacts.model.ModelSnapshot;
 import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.course.UniqueCourseList;
 import tahub.contacts.model.person.Person;
@@ -20,6 +24,7 @@ import tahub.contacts.model.tutorial.Tutorial;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Any resulting changes are saved in the background; see {@link #setSaveFailureHandler(Consumer)}.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -27,6 +32,40 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the thread that makes all changes to the model, and returns its result when done.
+     * Commands are executed one at a time, in the order they are submitted.
+     * Model listeners are notified on that thread, not on the JavaFX application thread.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException}
+     *     or {@code ParseException} if the command fails.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Sets the handler that is given the error message whenever a background save fails.
+     * The handler is not called on the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until all commands submitted with {@link #executeAsync(String)} have been executed, and all pending
+     * background saves have been written.
+     */
+    void flushPendingSaves();
+
+    /**
+     * Sets whether saving the data changed by each command is deferred until {@link #saveDeferredChanges()} is called,
+     * so that running many commands in a row does not save the data after each of them.
+     * The deferred changes are saved when saving stops being deferred.
+     */
+    void setSaveDeferred(boolean isSaveDeferred);
+
+    /**
+     * Schedules a background save of the data changed since it was last saved.
+     */
+    void saveDeferredChanges();
+
     /**
      * Returns the AddressBook.
      *
@@ -35,10 +74,25 @@ public interface Logic {
     ReadOnlyAddressBook getAddressBook();
 
     /**
-     * Adds a listener to be notified when the model changes
+     * Returns the snapshot of the data published after the latest command.
+     * Unlike the other getters, this may be read on any thread while commands are being executed.
+     *
+     * @see tahub.contacts.model.Model#getSnapshot()
+     */
+    ModelSnapshot getSnapshot();
+
+    /**
+     * Adds a listener to be notified of every change made to the model.
+     * The changes made by a command are given to the listener once its snapshot has been published.
      * @param listener the listener to be added
+     * @see tahub.contacts.model.Model#addListener(Consumer)
+     */
+    void addListener(Consumer<ModelChange> listener);
+
+    /**
+     * Removes a listener added with {@link #addListener}.
      */
-    void addListener(Runnable listener);
+    void removeListener(Consumer<ModelChange> listener);
 
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
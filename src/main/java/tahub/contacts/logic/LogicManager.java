@@ -1,26 +1,35 @@
 package tahub.contacts.logic;
 
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import tahub.contacts.commons.core.GuiSettings;
 import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.commons.exceptions.DataLoadingException;
 import tahub.contacts.logic.commands.Command;
 import tahub.contacts.logic.commands.CommandResult;
 import tahub.contacts.logic.commands.exceptions.CommandException;
 import tahub.contacts.logic.parser.AddressBookParser;
 import tahub.contacts.logic.parser.exceptions.ParseException;
 import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelChange;
+import tahub.contacts.model.ModelSnapshot;
 import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.course.UniqueCourseList;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
 import tahub.contacts.model.tutorial.Tutorial;
+import tahub.contacts.storage.CommandJournal;
 import tahub.contacts.storage.Storage;
 
 /**
@@ -32,26 +41,58 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Number of journal entries after which a full snapshot of the data is saved and the journal cleared. */
+    public static final int JOURNAL_SNAPSHOT_INTERVAL = 100;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundSaver saver;
+    private final ExecutorService modelWriter;
+    private final CommandJournal journal;
     private final AddressBookParser addressBookParser;
-    private final List<Runnable> listeners;
+    private final List<Consumer<ModelChange>> listeners;
+    private final List<ModelChange> commandChanges = new ArrayList<>();
+
+    private long savedAddressBookVersion;
+    private long savedCourseListVersion;
+    private long savedScaListVersion;
+    private int journalLength;
+    private boolean isSaveDeferred;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The changed data files are saved after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code CommandJournal}.
+     * Every command that changes the data is appended to {@code journal}, and the data files are only saved
+     * once every {@link #JOURNAL_SNAPSHOT_INTERVAL} journal entries.
+     * If {@code journal} is null, the changed data files are saved after every command instead.
+     */
+    public LogicManager(Model model, Storage storage, CommandJournal journal) {
         this.model = model;
-        this.storage = storage;
+        this.journal = journal;
+        this.saver = new BackgroundSaver(storage, journal);
+        this.modelWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "model-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.journalLength = countJournalEntries(journal);
         addressBookParser = new AddressBookParser();
-        this.listeners = new ArrayList<>();
+        // listeners are added and removed on the FX thread, and notified on the model thread
+        this.listeners = new CopyOnWriteArrayList<>();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        savedCourseListVersion = model.getCourseListVersion();
+        savedScaListVersion = model.getScaListVersion();
 
-        // Add a listener to the model to forward notifications to our listeners
-        model.addListener(() -> {
-            notifyListeners();
-        });
+        // Record the changes made by each command, to be forwarded to our listeners once it is published
+        model.addListener(commandChanges::add);
     }
 
     @Override
@@ -60,26 +101,116 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
+        commandChanges.clear();
+        List<ModelChange> changes;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveCourseList(model.getCourseList());
-            storage.saveScaList(model.getScaList());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model).withChanges(commandChanges);
+        } finally {
+            changes = List.copyOf(commandChanges);
+            commandChanges.clear();
+            // publish whatever the command has changed, even if it failed partway
+            model.publishSnapshot();
+            changes.forEach(this::notifyListeners);
+        }
+        if (!isSaveDeferred) {
+            saveChangedData(command, commandText, model.getSnapshot());
         }
 
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        modelWriter.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void setSaveDeferred(boolean isSaveDeferred) {
+        if (this.isSaveDeferred && !isSaveDeferred) {
+            saveDeferredChanges();
+        }
+        this.isSaveDeferred = isSaveDeferred;
+    }
+
+    @Override
+    public void saveDeferredChanges() {
+        saveChangedData(null, null, model.getSnapshot());
+    }
+
+    /**
+     * Schedules a background save of the changes made by {@code command}, entered as {@code commandText}, which are
+     * published in {@code snapshot}. If {@code command} is null, the changes may have been made by several commands.
+     * Only the stores whose version has changed are considered, so that read-only commands do not touch the disk.
+     */
+    private void saveChangedData(Command command, String commandText, ModelSnapshot snapshot) {
+        boolean isAddressBookChanged = snapshot.getAddressBookVersion() != savedAddressBookVersion;
+        boolean isCourseListChanged = snapshot.getCourseListVersion() != savedCourseListVersion;
+        boolean isScaListChanged = snapshot.getScaListVersion() != savedScaListVersion;
+        savedAddressBookVersion = snapshot.getAddressBookVersion();
+        savedCourseListVersion = snapshot.getCourseListVersion();
+        savedScaListVersion = snapshot.getScaListVersion();
+
+        // the saver keeps a store that fails to be written until it is written, so the versions can advance now
+        if (journal == null) {
+            if (isAddressBookChanged) {
+                saver.saveAddressBook(snapshot);
+            }
+            if (isCourseListChanged) {
+                saver.saveCourseList(snapshot);
+            }
+            if (isScaListChanged) {
+                saver.saveScaList(snapshot);
+            }
+            return;
+        }
+
+        if (!isAddressBookChanged && !isCourseListChanged && !isScaListChanged) {
+            return;
+        }
+        if (command == null || !command.isReplayable()) {
+            // the journal could not reproduce the changes, so save all the data instead
+            saver.saveSnapshot(snapshot);
+            journalLength = 0;
+            return;
+        }
+        saver.appendToJournal(commandText);
+        journalLength++;
+        if (journalLength >= JOURNAL_SNAPSHOT_INTERVAL) {
+            saver.saveSnapshot(snapshot);
+            journalLength = 0;
+        }
+    }
+
+    private static int countJournalEntries(CommandJournal journal) {
+        if (journal == null) {
+            return 0;
+        }
+
+        try {
+            return journal.readEntries().size();
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -124,16 +255,34 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void addListener(Runnable listener) {
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saver.setFailureHandler(handler);
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        // commands are executed in order, so this completes after every command submitted before it
+        CompletableFuture.runAsync(() -> { }, modelWriter).join();
+        saver.flush();
+    }
+
+    @Override
+    public void addListener(Consumer<ModelChange> listener) {
+        requireNonNull(listener);
         listeners.add(listener);
     }
 
+    @Override
+    public void removeListener(Consumer<ModelChange> listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Notifies all registered listeners of a model change
      */
-    private void notifyListeners() {
-        for (Runnable listener : listeners) {
-            listener.run();
+    private void notifyListeners(ModelChange change) {
+        for (Consumer<ModelChange> listener : listeners) {
+            listener.accept(change);
         }
     }
 }
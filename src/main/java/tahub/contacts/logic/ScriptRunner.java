@@ -0,0 +1,179 @@
+package tahub.contacts.logic;
+
+import static java.util.Objects.requireNonNull;
+import static tahub.contacts.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.logic.commands.CommandResult;
+import tahub.contacts.logic.commands.exceptions.CommandException;
+import tahub.contacts.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes the commands of a script, one per line, without the GUI.
+ * <p>
+ * The commands are executed in order, and a command that fails is reported without stopping the script. The data is
+ * saved once every {@code checkpointInterval} commands and at the end of the script, instead of after every command,
+ * so that a script of thousands of commands does not save the data thousands of times.
+ */
+public class ScriptRunner {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    public static final String MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS = "Checkpoint interval must be positive";
+
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    public static final String MESSAGE_SUMMARY = "Executed %1$d commands (%2$d failed) in %3$d ms: "
+            + "%4$.1f commands/s, p50 latency %5$.3f ms, p99 latency %6$.3f ms";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+    private final PrintStream output;
+    private final int checkpointInterval;
+
+    /**
+     * Creates a {@code ScriptRunner} that executes commands with {@code logic} and prints failures and the summary
+     * to {@code output}, saving the data every {@link #DEFAULT_CHECKPOINT_INTERVAL} commands.
+     */
+    public ScriptRunner(Logic logic, PrintStream output) {
+        this(logic, output, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code ScriptRunner} that executes commands with {@code logic} and prints failures and the summary
+     * to {@code output}, saving the data every {@code checkpointInterval} commands.
+     */
+    public ScriptRunner(Logic logic, PrintStream output, int checkpointInterval) {
+        requireNonNull(logic);
+        requireNonNull(output);
+        checkArgument(checkpointInterval > 0, MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS);
+        this.logic = logic;
+        this.output = output;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Executes the commands read from {@code script} until it ends or an exit command is executed, then waits until
+     * the data is saved and prints the summary. Blank lines are ignored.
+     *
+     * @throws IOException if {@code script} cannot be read. The commands executed before are still saved.
+     */
+    public Summary run(BufferedReader script) throws IOException {
+        requireNonNull(script);
+
+        long[] latencies = new long[64];
+        int commandCount = 0;
+        int failureCount = 0;
+        int lineNumber = 0;
+        long startTime = System.nanoTime();
+        logic.setSaveDeferred(true);
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                long commandStartTime = System.nanoTime();
+                boolean isExit = false;
+                try {
+                    CommandResult result = logic.execute(line);
+                    isExit = result.isExit();
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    output.println(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                }
+                if (commandCount == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, commandCount * 2);
+                }
+                latencies[commandCount++] = System.nanoTime() - commandStartTime;
+
+                if (isExit) {
+                    break;
+                }
+                if (commandCount % checkpointInterval == 0) {
+                    logger.fine("Saving checkpoint after " + commandCount + " commands");
+                    logic.saveDeferredChanges();
+                }
+            }
+        } finally {
+            logic.setSaveDeferred(false);
+            logic.flushPendingSaves();
+        }
+
+        Summary summary = new Summary(commandCount, failureCount, System.nanoTime() - startTime,
+                Arrays.copyOf(latencies, commandCount));
+        output.println(summary.format());
+        return summary;
+    }
+
+    /**
+     * The number of commands a script has executed, and how long they took.
+     */
+    public static class Summary {
+        private final int commandCount;
+        private final int failureCount;
+        private final long elapsedNanos;
+        private final long[] sortedLatencies;
+
+        /**
+         * Creates a summary of {@code commandCount} commands, of which {@code failureCount} failed, that took
+         * {@code elapsedNanos} in total and {@code latencies} each, in nanoseconds.
+         */
+        public Summary(int commandCount, int failureCount, long elapsedNanos, long[] latencies) {
+            requireNonNull(latencies);
+            this.commandCount = commandCount;
+            this.failureCount = failureCount;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(sortedLatencies);
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the number of commands executed per second, or 0 if no time has elapsed.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commandCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        /**
+         * Returns the latency, in nanoseconds, that {@code percentile} percent of the commands took at most,
+         * or 0 if there are no commands.
+         */
+        public long getLatencyPercentile(int percentile) {
+            checkArgument(percentile > 0 && percentile <= 100, "Percentile must be between 1 and 100");
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            // nearest-rank method
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+            return sortedLatencies[rank - 1];
+        }
+
+        /**
+         * Returns the summary as a message for the user.
+         */
+        public String format() {
+            return String.format(MESSAGE_SUMMARY, commandCount, failureCount,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getCommandsPerSecond(),
+                    getLatencyPercentile(50) / 1e6, getLatencyPercentile(99) / 1e6);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package tahub.contacts.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import tahub.contacts.commons.util.ToStringBuilder;
+import tahub.contacts.logic.commands.exceptions.CommandException;
+import tahub.contacts.model.Model;
+
+/**
+ * Executes several commands, one per line, as a single command.
+ * <p>
+ * Either every command succeeds, or the changes of those before the one that failed are rolled back, so the data is
+ * never left halfway through the batch. The batch is published, saved and undone as one change.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes several commands, one per line, as one command. "
+            + "If any command fails, none of their changes are kept.\n"
+            + "Parameters: COMMAND [NEWLINE COMMAND]...\n"
+            + "Example: " + COMMAND_WORD + " enroll m/A1234567M c/CS1101S tut/T01\n"
+            + "enroll m/A2345678M c/CS1101S tut/T01";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands in %2$d ms";
+
+    public static final String MESSAGE_FAILURE = "Line %1$d failed after %2$d ms, so no changes were made";
+
+    public static final String MESSAGE_INVALID_LINES = "Some lines are invalid, so no commands were executed";
+
+    public static final String MESSAGE_COMMAND_NOT_BATCHABLE = "This command cannot be used in a batch";
+
+    public static final String MESSAGE_LINE = "Line %1$d: %2$s";
+
+    private final List<Line> lines;
+
+    /**
+     * Creates a BatchCommand to execute the commands of {@code lines}, in order.
+     */
+    public BatchCommand(List<Line> lines) {
+        requireNonNull(lines);
+        this.lines = List.copyOf(lines);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        long startTime = System.nanoTime();
+        List<String> report = new ArrayList<>();
+        boolean isShowHelp = false;
+        boolean isExit = false;
+        for (Line line : lines) {
+            CommandResult result;
+            try {
+                result = line.command().execute(model);
+            } catch (CommandException e) {
+                model.rollback();
+                report.add(String.format(MESSAGE_LINE, line.number(), e.getMessage()));
+                throw new CommandException(String.format(MESSAGE_FAILURE, line.number(), elapsedMillis(startTime))
+                        + "\n" + String.join("\n", report), e);
+            } catch (RuntimeException e) {
+                model.rollback();
+                throw e;
+            }
+            report.add(String.format(MESSAGE_LINE, line.number(), result.getFeedbackToUser()));
+            isShowHelp |= result.isShowHelp();
+            isExit |= result.isExit();
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), elapsedMillis(startTime))
+                + "\n" + String.join("\n", report), isShowHelp, isExit);
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns false, since the commands of a batch are entered on several lines, which the journal cannot hold.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return lines.equals(otherBatchCommand.lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lines", lines)
+                .toString();
+    }
+
+    /**
+     * A command of a batch, and the number of the line it was entered on.
+     */
+    public record Line(int number, Command command) {
+        public Line {
+            requireNonNull(command);
+        }
+    }
+}
@@ -17,4 +17,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command again on the data as it was before redoes its changes.
+     * Commands that depend on state that is not saved, such as the undo history, return false, so that their
+     * changes are saved in full instead of being recorded in the journal.
+     */
+    public boolean isReplayable() {
+        return true;
+    }
+
 }
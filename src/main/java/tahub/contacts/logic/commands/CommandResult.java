@@ -2,9 +2,11 @@ package tahub.contacts.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Objects;
 
 import tahub.contacts.commons.util.ToStringBuilder;
+import tahub.contacts.model.ModelChange;
 
 /**
  * Represents the result of a command execution.
@@ -19,13 +21,21 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The changes made to the model by the command, in the order they were made. */
+    private final List<ModelChange> changes;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, List.of());
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, List<ModelChange> changes) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.changes = List.copyOf(changes);
     }
 
     /**
@@ -48,6 +58,18 @@ public class CommandResult {
         return exit;
     }
 
+    public List<ModelChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns a copy of this result that records {@code changes} as the changes made to the model by the command.
+     */
+    public CommandResult withChanges(List<ModelChange> changes) {
+        requireNonNull(changes);
+        return new CommandResult(feedbackToUser, showHelp, exit, changes);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +84,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && changes.equals(otherCommandResult.changes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, changes);
     }
 
     @Override
@@ -76,6 +99,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("changes", changes)
                 .toString();
     }
 
@@ -0,0 +1,34 @@
+package tahub.contacts.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import tahub.contacts.logic.commands.exceptions.CommandException;
+import tahub.contacts.model.Model;
+
+/**
+ * Reapplies the change most recently reverted by {@link UndoCommand}.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change";
+
+    public static final String MESSAGE_FAILURE = "There are no undone changes to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+}
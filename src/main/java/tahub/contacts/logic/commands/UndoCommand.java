@@ -0,0 +1,34 @@
+package tahub.contacts.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import tahub.contacts.logic.commands.exceptions.CommandException;
+import tahub.contacts.model.Model;
+
+/**
+ * Reverts the data to how it was before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change";
+
+    public static final String MESSAGE_FAILURE = "There are no changes to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+}
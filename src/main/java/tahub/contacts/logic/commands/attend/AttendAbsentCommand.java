@@ -66,6 +66,7 @@ public class AttendAbsentCommand extends Command {
         requireNonNull(attendance);
 
         attendance.addAbsentLesson();
+        model.notifyAttendanceChanged(foundSca);
 
         // return success
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toFind)));
@@ -67,6 +67,7 @@ public class AttendClearCommand extends Command {
         requireNonNull(attendance);
 
         attendance.clear();
+        model.notifyAttendanceChanged(foundSca);
 
         // return success
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toFind)));
@@ -66,6 +66,7 @@ public class AttendPresentCommand extends Command {
         requireNonNull(attendance);
 
         attendance.addAttendedLesson();
+        model.notifyAttendanceChanged(foundSca);
 
         // return success
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toFind)));
@@ -73,6 +73,7 @@ public class AttendRemoveCommand extends Command {
         } catch (AttendanceOperationException e) {
             throw new CommandException(MESSAGE_ATTENDANCE_NO_SESSIONS_TO_REMOVE);
         }
+        model.notifyAttendanceChanged(foundSca);
 
         // return success
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toFind)));
@@ -80,7 +80,7 @@ public class CourseEditCommand extends Command {
 
         CourseName updatedCourseName = editCourseDescriptor.getCourseName().orElse(courseToEdit.courseName);
 
-        return new Course(courseToEdit.courseCode, updatedCourseName);
+        return new Course(courseToEdit.courseCode, updatedCourseName, courseToEdit.getAssessmentSchema());
     }
 
     @Override
@@ -101,7 +101,7 @@ public class EnrollCommand extends Command {
                 .toList()
                 .get(0);
 
-        Tutorial tutorialInSca = new Tutorial(tutorialIdToAdd, courseInSca);
+        Tutorial tutorialInSca = Tutorial.of(tutorialIdToAdd, courseInSca);
         StudentCourseAssociation scaToAdd = new StudentCourseAssociation(personInSca, courseInSca, tutorialInSca);
 
         if (model.hasSca(scaToAdd)) {
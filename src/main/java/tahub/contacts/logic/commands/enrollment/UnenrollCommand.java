@@ -101,7 +101,7 @@ public class UnenrollCommand extends Command {
                 .toList()
                 .get(0);
 
-        Tutorial tutorialInSca = new Tutorial(tutorialIdToRemove, courseInSca);
+        Tutorial tutorialInSca = Tutorial.of(tutorialIdToRemove, courseInSca);
         StudentCourseAssociation scaToRemove = new StudentCourseAssociation(personInSca, courseInSca, tutorialInSca);
 
         // If there is no such sca to be unenrolled, throw an exception
@@ -29,8 +29,6 @@ import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Name;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.person.Phone;
-import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
-import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
 import tahub.contacts.model.tag.Tag;
 
 /**
@@ -83,24 +81,9 @@ public class PersonEditCommand extends Command {
         Person personToEdit = getStudentFromPersonList(lastShownList, matriculationNumber);
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-        // Get all SCAs associated with the person before editing
-        StudentCourseAssociationList scaList = model.getStudentScaList();
-        List<StudentCourseAssociation> personScas = scaList.get(personToEdit);
-
-        // Update the person
+        // The SCAs of the person refer to it through the model, so they see the edit without being replaced
         model.setPerson(personToEdit, editedPerson);
 
-        // Update all SCAs with the edited person immediately
-        for (StudentCourseAssociation oldSca : personScas) {
-            StudentCourseAssociation newSca = new StudentCourseAssociation(
-                    editedPerson,
-                    oldSca.getCourse(),
-                    oldSca.getTutorial(),
-                    oldSca.getAttendance()
-            );
-            model.setStudentCourseAssociation(oldSca, newSca);
-        }
-
         // Force an immediate update of the filtered list
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
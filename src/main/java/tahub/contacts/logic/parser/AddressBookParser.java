@@ -8,11 +8,14 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.logic.commands.BatchCommand;
 import tahub.contacts.logic.commands.ClearCommand;
 import tahub.contacts.logic.commands.Command;
 import tahub.contacts.logic.commands.ExitCommand;
 import tahub.contacts.logic.commands.HelpCommand;
 import tahub.contacts.logic.commands.ListCommand;
+import tahub.contacts.logic.commands.RedoCommand;
+import tahub.contacts.logic.commands.UndoCommand;
 import tahub.contacts.logic.commands.attend.AttendAbsentCommand;
 import tahub.contacts.logic.commands.attend.AttendClearCommand;
 import tahub.contacts.logic.commands.attend.AttendPresentCommand;
@@ -47,9 +50,11 @@ import tahub.contacts.logic.parser.person.PersonFindCommandParser;
 public class AddressBookParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * Used for initial separation of command word and args. The args may span several lines.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Pattern BASIC_COMMAND_FORMAT =
+            Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)", Pattern.DOTALL);
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
     /**
@@ -73,6 +78,11 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
+        // only a batch is entered on several lines
+        if (!commandWord.equals(BatchCommand.COMMAND_WORD) && LINE_BREAK.matcher(arguments).find()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+
         switch (commandWord) {
 
         case PersonAddCommand.COMMAND_WORD:
@@ -102,6 +112,15 @@ public class AddressBookParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
         case AttendPresentCommand.COMMAND_WORD:
             return new AttendPresentCommandParser().parse(arguments);
 
@@ -0,0 +1,68 @@
+package tahub.contacts.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tahub.contacts.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tahub.contacts.logic.commands.BatchCommand;
+import tahub.contacts.logic.commands.Command;
+import tahub.contacts.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a BatchCommandParser that parses each line of a batch with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        this.addressBookParser = requireNonNull(addressBookParser);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * Every line is parsed before any command is executed, and blank lines are ignored.
+     * @throws ParseException if there are no commands, or any line does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        // the first line holds whatever follows the command word
+        String[] inputLines = args.split("\\R");
+        List<BatchCommand.Line> lines = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < inputLines.length; i++) {
+            if (inputLines[i].isBlank()) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                Command command = addressBookParser.parseCommand(inputLines[i]);
+                if (!command.isReplayable()) {
+                    // such commands depend on more than the data, which the batch changes under them
+                    errors.add(String.format(BatchCommand.MESSAGE_LINE, lineNumber,
+                            BatchCommand.MESSAGE_COMMAND_NOT_BATCHABLE));
+                } else {
+                    lines.add(new BatchCommand.Line(lineNumber, command));
+                }
+            } catch (ParseException e) {
+                errors.add(String.format(BatchCommand.MESSAGE_LINE, lineNumber, e.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(BatchCommand.MESSAGE_INVALID_LINES + "\n" + String.join("\n", errors));
+        }
+        if (lines.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return new BatchCommand(lines);
+    }
+}
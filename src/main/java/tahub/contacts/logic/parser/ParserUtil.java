@@ -136,7 +136,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -163,7 +163,7 @@ public class ParserUtil {
         if (!CourseCode.isValidCourseCode(courseCode)) {
             throw new ParseException(CourseCode.MESSAGE_CONSTRAINTS);
         }
-        return new CourseCode(trimmedCourseCode);
+        return CourseCode.of(trimmedCourseCode);
     }
 
     /**
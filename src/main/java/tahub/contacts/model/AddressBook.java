@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import tahub.contacts.commons.util.PersistentList;
 import tahub.contacts.commons.util.ToStringBuilder;
 import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Person;
@@ -49,6 +50,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces the contents of the person list with {@code persons}, which were taken earlier from this address book
+     * with {@link #getPersistentPersonList()}. Only the persons that have changed since are replaced.
+     */
+    public void restorePersons(PersistentList<Person> persons) {
+        this.persons.restore(persons);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -109,6 +118,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the current persons, which are not affected by later modifications of this address book.
+     * Takes constant time.
+     */
+    public PersistentList<Person> getPersistentPersonList() {
+        return persons.asPersistentList();
+    }
+
     public Person getPersonByMatricNumber(String matricNumber) {
         return persons.getPersonByMatricNumber(matricNumber);
     }
@@ -117,6 +134,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getPersonByMatricNumber(matricNumber);
     }
 
+    /**
+     * Returns the reference to the person with the given matriculation number, or null if there is no such person.
+     */
+    public EntityRef<Person> getPersonRef(MatriculationNumber matricNumber) {
+        return persons.getPersonRef(matricNumber);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,47 @@
+package tahub.contacts.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A stable reference to the current version of a person or course.
+ * <p>
+ * Persons and courses are immutable, so editing one replaces it with a new object. The registry that holds them
+ * keeps one {@code EntityRef} per identity (matriculation number or course code) for as long as the entity stays in
+ * it, and points the reference at the new object on every edit. The person registry also gives a person who leaves
+ * and later comes back the same reference. Anything that resolves the entity through the
+ * reference, such as an enrollment, sees the edit without being rebuilt.
+ *
+ * @param <T> the type of the entity
+ */
+public class EntityRef<T> {
+
+    private volatile T value;
+
+    /**
+     * Constructs a reference to {@code value}.
+     */
+    public EntityRef(T value) {
+        requireNonNull(value);
+        this.value = value;
+    }
+
+    /**
+     * Returns the current version of the entity.
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Points this reference at {@code value}, which must be a newer version of the same entity.
+     */
+    public void set(T value) {
+        requireNonNull(value);
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "ref(" + value + ")";
+    }
+}
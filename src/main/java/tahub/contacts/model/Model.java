@@ -2,6 +2,7 @@ package tahub.contacts.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -115,10 +116,15 @@ public interface Model {
     boolean hasCourse(Course course);
 
     /**
-     * Adds a listener to be notified when the model changes
+     * Adds a listener to be notified of every change made to the model, right after the change is made.
      * @param listener the listener to be added
      */
-    void addListener(Runnable listener);
+    void addListener(Consumer<ModelChange> listener);
+
+    /**
+     * Removes a listener added with {@link #addListener}. Does nothing if the listener has not been added.
+     */
+    void removeListener(Consumer<ModelChange> listener);
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
@@ -168,4 +174,68 @@ public interface Model {
      * Notifies listeners that a student's enrollment has changed
      */
     void notifyEnrollmentChanged();
+
+    /**
+     * Records that the attendance of {@code sca} has been modified in place.
+     * The SCA must exist in the list.
+     */
+    void notifyAttendanceChanged(StudentCourseAssociation sca);
+
+    /**
+     * Returns a counter that increases every time the address book is modified.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns a counter that increases every time the course list is modified.
+     */
+    long getCourseListVersion();
+
+    /**
+     * Returns a counter that increases every time the SCA list is modified.
+     */
+    long getScaListVersion();
+
+    /**
+     * Returns the latest published snapshot of the data.
+     * This may be called from any thread.
+     */
+    ModelSnapshot getSnapshot();
+
+    /**
+     * Publishes a snapshot of the current data, to be returned by {@link #getSnapshot()}.
+     * This is called once a command has finished modifying the data.
+     * If the data has changed, the previous snapshot becomes the one to go back to with {@link #undo()}, and the
+     * snapshots undone so far can no longer be redone.
+     */
+    void publishSnapshot();
+
+    /**
+     * Returns true if there is a published snapshot before the current one to go back to.
+     */
+    boolean canUndo();
+
+    /**
+     * Replaces the data with the published snapshot before the current one.
+     * Changes that have not been published are discarded.
+     * There must be such a snapshot (see {@link #canUndo()}).
+     */
+    void undo();
+
+    /**
+     * Returns true if there is an undone snapshot to go forward to.
+     */
+    boolean canRedo();
+
+    /**
+     * Replaces the data with the snapshot most recently undone.
+     * There must be such a snapshot (see {@link #canRedo()}).
+     */
+    void redo();
+
+    /**
+     * Discards the changes made since the latest published snapshot, so that the data is that of the snapshot again.
+     * The undo history is not affected.
+     */
+    void rollback();
 }
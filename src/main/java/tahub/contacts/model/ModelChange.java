@@ -0,0 +1,206 @@
+package tahub.contacts.model;
+
+import static java.util.Objects.requireNonNull;
+import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+
+import tahub.contacts.model.course.CourseCode;
+import tahub.contacts.model.person.MatriculationNumber;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+
+/**
+ * A change made to the {@link Model}, which identifies the changed data by key.
+ * <p>
+ * The model reports every change to its listeners as it is made, and the changes made by a command are returned
+ * with its {@code CommandResult}, so that the UI can update only what a command has changed.
+ */
+public interface ModelChange {
+
+    /**
+     * Returns the matriculation numbers of the students whose details or enrollments are changed.
+     */
+    Set<MatriculationNumber> affectedStudents();
+
+    /**
+     * Returns true if the change may affect every student, so it cannot be narrowed down by
+     * {@link #affectedStudents()}.
+     */
+    default boolean affectsAllStudents() {
+        return false;
+    }
+
+    /**
+     * A person has been added.
+     */
+    record PersonAdded(MatriculationNumber matricNumber) implements ModelChange {
+        public PersonAdded {
+            requireNonNull(matricNumber);
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of(matricNumber);
+        }
+    }
+
+    /**
+     * A person has been edited. The matriculation number is the same before and after, unless it has been edited.
+     */
+    record PersonUpdated(MatriculationNumber oldMatricNumber, MatriculationNumber newMatricNumber)
+            implements ModelChange {
+        public PersonUpdated {
+            requireAllNonNull(oldMatricNumber, newMatricNumber);
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return oldMatricNumber.equals(newMatricNumber)
+                    ? Set.of(newMatricNumber)
+                    : Set.of(oldMatricNumber, newMatricNumber);
+        }
+    }
+
+    /**
+     * A person has been deleted.
+     */
+    record PersonRemoved(MatriculationNumber matricNumber) implements ModelChange {
+        public PersonRemoved {
+            requireNonNull(matricNumber);
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of(matricNumber);
+        }
+    }
+
+    /**
+     * A student has been enrolled into a tutorial of a course.
+     */
+    record ScaAdded(MatriculationNumber matricNumber, CourseCode courseCode, String tutorialId)
+            implements ModelChange {
+        public ScaAdded {
+            requireAllNonNull(matricNumber, courseCode, tutorialId);
+        }
+
+        /**
+         * Returns the change of adding {@code sca}.
+         */
+        public static ScaAdded of(StudentCourseAssociation sca) {
+            return new ScaAdded(sca.getStudent().getMatricNumber(), sca.getCourse().courseCode,
+                    sca.getTutorial().getTutorialId());
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of(matricNumber);
+        }
+    }
+
+    /**
+     * A student has been unenrolled from a tutorial of a course.
+     */
+    record ScaRemoved(MatriculationNumber matricNumber, CourseCode courseCode, String tutorialId)
+            implements ModelChange {
+        public ScaRemoved {
+            requireAllNonNull(matricNumber, courseCode, tutorialId);
+        }
+
+        /**
+         * Returns the change of removing {@code sca}.
+         */
+        public static ScaRemoved of(StudentCourseAssociation sca) {
+            return new ScaRemoved(sca.getStudent().getMatricNumber(), sca.getCourse().courseCode,
+                    sca.getTutorial().getTutorialId());
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of(matricNumber);
+        }
+    }
+
+    /**
+     * The attendance of a student in a tutorial of a course has been modified.
+     */
+    record AttendanceChanged(MatriculationNumber matricNumber, CourseCode courseCode, String tutorialId)
+            implements ModelChange {
+        public AttendanceChanged {
+            requireAllNonNull(matricNumber, courseCode, tutorialId);
+        }
+
+        /**
+         * Returns the change of modifying the attendance of {@code sca}.
+         */
+        public static AttendanceChanged of(StudentCourseAssociation sca) {
+            return new AttendanceChanged(sca.getStudent().getMatricNumber(), sca.getCourse().courseCode,
+                    sca.getTutorial().getTutorialId());
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of(matricNumber);
+        }
+    }
+
+    /**
+     * A course has been added.
+     */
+    record CourseAdded(CourseCode courseCode) implements ModelChange {
+        public CourseAdded {
+            requireNonNull(courseCode);
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of();
+        }
+    }
+
+    /**
+     * A course has been edited, which changes how it is shown for every student enrolled in it.
+     * The course code is the same before and after, unless it has been edited.
+     */
+    record CourseRenamed(CourseCode oldCourseCode, CourseCode newCourseCode,
+                         Set<MatriculationNumber> enrolledStudents) implements ModelChange {
+        public CourseRenamed {
+            requireAllNonNull(oldCourseCode, newCourseCode, enrolledStudents);
+            enrolledStudents = Set.copyOf(enrolledStudents);
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return enrolledStudents;
+        }
+    }
+
+    /**
+     * A course has been deleted. The enrollments in it are reported as separate {@link ScaRemoved} changes.
+     */
+    record CourseRemoved(CourseCode courseCode) implements ModelChange {
+        public CourseRemoved {
+            requireNonNull(courseCode);
+        }
+
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of();
+        }
+    }
+
+    /**
+     * All the data of a store (such as the address book or the course list) has been replaced at once.
+     */
+    record DataReplaced() implements ModelChange {
+        @Override
+        public Set<MatriculationNumber> affectedStudents() {
+            return Set.of();
+        }
+
+        @Override
+        public boolean affectsAllStudents() {
+            return true;
+        }
+    }
+}
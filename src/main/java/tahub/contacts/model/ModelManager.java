@@ -1,20 +1,37 @@
 package tahub.contacts.model;
 
 import static java.util.Objects.requireNonNull;
+import static tahub.contacts.commons.util.AppUtil.checkArgument;
 import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import tahub.contacts.commons.core.GuiSettings;
 import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.model.ModelChange.AttendanceChanged;
+import tahub.contacts.model.ModelChange.CourseAdded;
+import tahub.contacts.model.ModelChange.CourseRemoved;
+import tahub.contacts.model.ModelChange.CourseRenamed;
+import tahub.contacts.model.ModelChange.DataReplaced;
+import tahub.contacts.model.ModelChange.PersonAdded;
+import tahub.contacts.model.ModelChange.PersonRemoved;
+import tahub.contacts.model.ModelChange.PersonUpdated;
+import tahub.contacts.model.ModelChange.ScaAdded;
+import tahub.contacts.model.ModelChange.ScaRemoved;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
@@ -24,6 +41,9 @@ import tahub.contacts.model.tutorial.Tutorial;
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There are no changes to undo";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There are no undone changes to redo";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
@@ -31,7 +51,15 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final UniqueCourseList courseList;
     private final FilteredList<Person> filteredPersons;
-    private final List<Runnable> listeners = new ArrayList<>();
+    private final List<Consumer<ModelChange>> listeners = new ArrayList<>();
+    private final int undoHistoryDepth;
+    private final Deque<ModelSnapshot> undoHistory = new ArrayDeque<>();
+    private final Deque<ModelSnapshot> redoHistory = new ArrayDeque<>();
+
+    private long addressBookVersion;
+    private long courseListVersion;
+    private long scaListVersion;
+    private volatile ModelSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -46,9 +74,13 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.undoHistoryDepth = userPrefs.getUndoHistoryDepth();
         this.courseList = courseList;
         this.scaList = scaList;
+        scaList.useRegistries(this.addressBook::getPersonRef, courseList::getCourseRef);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        snapshot = ModelSnapshot.of(this.addressBook, addressBookVersion, courseList, courseListVersion,
+                scaList, scaListVersion);
     }
 
     public ModelManager() {
@@ -56,25 +88,23 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void addListener(Runnable listener) {
+    public void addListener(Consumer<ModelChange> listener) {
+        requireNonNull(listener);
         listeners.add(listener);
     }
 
-    /**
-     * Notifies all listeners of a model change
-     */
-    private void notifyListeners() {
-        for (Runnable listener : listeners) {
-            listener.run();
-        }
+    @Override
+    public void removeListener(Consumer<ModelChange> listener) {
+        listeners.remove(listener);
     }
 
     /**
-     * Call this method whenever there's a change in the model that should trigger UI updates
-     * For example, in methods that modify courses or SCAs
+     * Notifies all listeners of {@code change}, which has just been made to the model.
      */
-    private void indicateModelChanged() {
-        notifyListeners();
+    private void notifyListeners(ModelChange change) {
+        for (Consumer<ModelChange> listener : List.copyOf(listeners)) {
+            listener.accept(change);
+        }
     }
 
 
@@ -135,29 +165,39 @@ public class ModelManager implements Model {
     @Override
     public void deleteCourse(Course target) {
         requireNonNull(target);
+        List<StudentCourseAssociation> removedScas = List.copyOf(scaList.get(target));
         scaList.remove(target);
         courseList.remove(target);
+        courseListVersion++;
+        scaListVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        removedScas.forEach(sca -> notifyListeners(ScaRemoved.of(sca)));
+        notifyListeners(new CourseRemoved(target.courseCode));
     }
 
     @Override
     public void addCourse(Course course) {
         courseList.addCourse(course);
+        courseListVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        notifyListeners(new CourseAdded(course.courseCode));
     }
 
     @Override
     public void setCourse(Course target, Course editedCourse) {
         requireAllNonNull(target, editedCourse);
+        // the SCAs of the course see the edited course through the course list's reference to it
         courseList.setCourse(target, editedCourse);
-        updateRelevantStudentCourseAssociations(target, editedCourse);
-    }
-
-    /**
-     * Updates all StudentCourseAssociations when a course is edited
-     */
-    private void updateRelevantStudentCourseAssociations(Course oldCourse, Course newCourse) {
-        scaList.updateCoursesInScas(oldCourse, newCourse);
+        scaList.markModified(target.courseCode);
+        if (!editedCourse.courseCode.equals(target.courseCode)) {
+            scaList.markModified(editedCourse.courseCode);
+        }
+        courseListVersion++;
+        scaListVersion++;
+        Set<MatriculationNumber> enrolledStudents = scaList.get(editedCourse).stream()
+                .map(sca -> sca.getStudent().getMatricNumber())
+                .collect(Collectors.toSet());
+        notifyListeners(new CourseRenamed(target.courseCode, editedCourse.courseCode, enrolledStudents));
     }
 
     @Override
@@ -170,6 +210,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        addressBookVersion++;
+        notifyListeners(new DataReplaced());
     }
 
     @Override
@@ -180,6 +222,8 @@ public class ModelManager implements Model {
     @Override
     public void setCourseList(UniqueCourseList courseList) {
         this.courseList.setCourses(courseList);
+        courseListVersion++;
+        notifyListeners(new DataReplaced());
     }
 
     @Override
@@ -191,19 +235,31 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        addressBookVersion++;
+        notifyListeners(new PersonRemoved(target.getMatricNumber()));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        addressBookVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        notifyListeners(new PersonAdded(person.getMatricNumber()));
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        // the SCAs of the person see the edited person through the address book's reference to it
         addressBook.setPerson(target, editedPerson);
+        scaList.markModified(target.getMatricNumber());
+        if (!editedPerson.getMatricNumber().equals(target.getMatricNumber())) {
+            scaList.markModified(editedPerson.getMatricNumber());
+        }
+        addressBookVersion++;
+        scaListVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        notifyListeners(new PersonUpdated(target.getMatricNumber(), editedPerson.getMatricNumber()));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -220,7 +276,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        // setting a predicate filters the whole list again, which is wasted when it is already the predicate
+        if (filteredPersons.getPredicate() != predicate) {
+            filteredPersons.setPredicate(predicate);
+        }
     }
 
     //=========== Student Course Association List Accessors ==========================================================
@@ -245,15 +304,19 @@ public class ModelManager implements Model {
     @Override
     public void deleteSca(StudentCourseAssociation target) {
         scaList.remove(target);
+        scaListVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         notifyEnrollmentChanged();
+        notifyListeners(ScaRemoved.of(target));
     }
 
     @Override
     public void addSca(StudentCourseAssociation sca) {
         scaList.add(sca);
+        scaListVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         notifyEnrollmentChanged();
+        notifyListeners(ScaAdded.of(sca));
     }
 
     @Override
@@ -281,6 +344,117 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void notifyAttendanceChanged(StudentCourseAssociation sca) {
+        requireNonNull(sca);
+        scaList.markModified(sca);
+        scaListVersion++;
+        notifyListeners(AttendanceChanged.of(sca));
+    }
+
+    //=========== Change Tracking ============================================================================
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public long getCourseListVersion() {
+        return courseListVersion;
+    }
+
+    @Override
+    public long getScaListVersion() {
+        return scaListVersion;
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void publishSnapshot() {
+        ModelSnapshot next = snapshot.next(addressBook, addressBookVersion, courseList, courseListVersion,
+                scaList, scaListVersion);
+        if (next != snapshot) {
+            pushBounded(undoHistory, snapshot);
+            redoHistory.clear();
+            snapshot = next;
+        }
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    @Override
+    public void undo() {
+        checkArgument(canUndo(), MESSAGE_NOTHING_TO_UNDO);
+        pushBounded(redoHistory, snapshot);
+        restore(undoHistory.pop());
+    }
+
+    @Override
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    @Override
+    public void redo() {
+        checkArgument(canRedo(), MESSAGE_NOTHING_TO_REDO);
+        pushBounded(undoHistory, snapshot);
+        restore(redoHistory.pop());
+    }
+
+    @Override
+    public void rollback() {
+        restore(snapshot);
+    }
+
+    /**
+     * Adds {@code snapshot} to the top of {@code history}, dropping the oldest snapshot of {@code history} if it
+     * would otherwise hold more than {@code undoHistoryDepth} snapshots.
+     */
+    private void pushBounded(Deque<ModelSnapshot> history, ModelSnapshot snapshot) {
+        history.push(snapshot);
+        while (history.size() > undoHistoryDepth) {
+            history.removeLast();
+        }
+    }
+
+    /**
+     * Replaces the data with that of {@code target}, which becomes the published snapshot.
+     * Only the stores whose current version differs from that of {@code target} are restored, and within them only
+     * the elements that differ from those of {@code target}, so undoing a command costs about as much as the command.
+     */
+    private void restore(ModelSnapshot target) {
+        boolean isReplaced = false;
+        if (target.getAddressBookVersion() != addressBookVersion) {
+            addressBook.restorePersons(target.getPersons());
+            addressBookVersion++;
+            isReplaced = true;
+        }
+        if (target.getCourseListVersion() != courseListVersion) {
+            courseList.restore(target.getCourses());
+            courseListVersion++;
+            isReplaced = true;
+        }
+        if (target.getScaListVersion() != scaListVersion) {
+            scaList.restore(target.getScas());
+            scaListVersion++;
+            isReplaced = true;
+        }
+        snapshot = target.withVersions(addressBookVersion, courseListVersion, scaListVersion);
+        if (isReplaced) {
+            notifyListeners(new DataReplaced());
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -307,5 +481,8 @@ public class ModelManager implements Model {
     public void setStudentCourseAssociation(StudentCourseAssociation target, StudentCourseAssociation editedSca) {
         requireAllNonNull(target, editedSca);
         scaList.set(target, editedSca);
+        scaListVersion++;
+        notifyListeners(ScaRemoved.of(target));
+        notifyListeners(ScaAdded.of(editedSca));
     }
 }
@@ -0,0 +1,171 @@
+package tahub.contacts.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tahub.contacts.commons.util.PersistentList;
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.person.MatriculationNumber;
+import tahub.contacts.model.person.Person;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+
+/**
+ * An immutable version of the data of the {@link Model}, as it was after a command.
+ * <p>
+ * Snapshots may be read from any thread without locking, while the model itself is being modified by the next
+ * command. The data is held in {@link PersistentList}s taken from the stores of the model, so a snapshot shares
+ * all but O(log n) nodes per modification with the previous one, and taking it costs constant time. The enrollments
+ * are copies that do not change with the model, since attendance is modified in place there.
+ */
+public final class ModelSnapshot {
+
+    private final long addressBookVersion;
+    private final long courseListVersion;
+    private final long scaListVersion;
+    private final PersistentList<Person> persons;
+    private final PersistentList<Course> courses;
+    private final PersistentList<StudentCourseAssociation> scas;
+
+    /** Index of {@code scas} by student, built when it is first needed. */
+    private volatile Map<MatriculationNumber, List<StudentCourseAssociation>> scasByStudent;
+
+    private ModelSnapshot(long addressBookVersion, PersistentList<Person> persons,
+                          long courseListVersion, PersistentList<Course> courses,
+                          long scaListVersion, PersistentList<StudentCourseAssociation> scas) {
+        this.addressBookVersion = addressBookVersion;
+        this.courseListVersion = courseListVersion;
+        this.scaListVersion = scaListVersion;
+        this.persons = persons;
+        this.courses = courses;
+        this.scas = scas;
+    }
+
+    /**
+     * Returns a snapshot of the given stores, which are at the given versions.
+     */
+    static ModelSnapshot of(AddressBook addressBook, long addressBookVersion,
+                            UniqueCourseList courseList, long courseListVersion,
+                            StudentCourseAssociationList scaList, long scaListVersion) {
+        return new ModelSnapshot(addressBookVersion, addressBook.getPersistentPersonList(),
+                courseListVersion, courseList.asPersistentList(),
+                scaListVersion, scaList.asPersistentList());
+    }
+
+    /**
+     * Returns a snapshot of the given stores, which are at the given versions. This snapshot is returned if no
+     * version has changed, and the index of the enrollments is kept if their version has not changed.
+     */
+    ModelSnapshot next(AddressBook addressBook, long addressBookVersion,
+                       UniqueCourseList courseList, long courseListVersion,
+                       StudentCourseAssociationList scaList, long scaListVersion) {
+        if (addressBookVersion == this.addressBookVersion && courseListVersion == this.courseListVersion
+                && scaListVersion == this.scaListVersion) {
+            return this;
+        }
+
+        ModelSnapshot next = of(addressBook, addressBookVersion, courseList, courseListVersion,
+                scaList, scaListVersion);
+        if (scaListVersion == this.scaListVersion) {
+            next.scasByStudent = scasByStudent;
+        }
+        return next;
+    }
+
+    /**
+     * Returns a snapshot with the data of this snapshot, labelled with the given versions.
+     */
+    ModelSnapshot withVersions(long addressBookVersion, long courseListVersion, long scaListVersion) {
+        ModelSnapshot relabelled = new ModelSnapshot(addressBookVersion, persons, courseListVersion, courses,
+                scaListVersion, scas);
+        relabelled.scasByStudent = scasByStudent;
+        return relabelled;
+    }
+
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    public long getCourseListVersion() {
+        return courseListVersion;
+    }
+
+    public long getScaListVersion() {
+        return scaListVersion;
+    }
+
+    /**
+     * Returns the persons of the address book, as an unmodifiable list.
+     */
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the courses of the course list, as an unmodifiable list.
+     */
+    public PersistentList<Course> getCourses() {
+        return courses;
+    }
+
+    /**
+     * Returns the enrollments of the SCA list, as an unmodifiable list.
+     * The enrollments must not be modified.
+     */
+    public PersistentList<StudentCourseAssociation> getScas() {
+        return scas;
+    }
+
+    /**
+     * Returns the enrollments of the student with the given matriculation number, as an unmodifiable list.
+     * The enrollments must not be modified.
+     */
+    public List<StudentCourseAssociation> getScasOfStudent(MatriculationNumber matricNumber) {
+        requireNonNull(matricNumber);
+        Map<MatriculationNumber, List<StudentCourseAssociation>> index = scasByStudent;
+        if (index == null) {
+            // racing readers may each build the index, but they build equal ones
+            Map<MatriculationNumber, List<StudentCourseAssociation>> builtIndex = new HashMap<>();
+            for (StudentCourseAssociation sca : scas) {
+                builtIndex.computeIfAbsent(sca.getStudent().getMatricNumber(), unused -> new ArrayList<>()).add(sca);
+            }
+            builtIndex.replaceAll((matric, studentScas) -> List.copyOf(studentScas));
+            index = Map.copyOf(builtIndex);
+            scasByStudent = index;
+        }
+        return index.getOrDefault(matricNumber, List.of());
+    }
+
+    /**
+     * Returns a new {@code AddressBook} with the persons of this snapshot.
+     */
+    public AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns a new {@code UniqueCourseList} with the courses of this snapshot.
+     */
+    public UniqueCourseList toCourseList() {
+        UniqueCourseList courseList = new UniqueCourseList();
+        courseList.setCourses(courses);
+        return courseList;
+    }
+
+    /**
+     * Returns a new {@code StudentCourseAssociationList} with the enrollments of this snapshot.
+     * The list shares the enrollments of this snapshot, so it must not be modified.
+     */
+    public StudentCourseAssociationList toScaList() {
+        StudentCourseAssociationList scaList = new StudentCourseAssociationList();
+        scaList.set(scas);
+        return scaList;
+    }
+}
@@ -17,4 +17,21 @@ public interface ReadOnlyUserPrefs {
 
     Path getScaListFilePath();
 
+    Path getJournalFilePath();
+
+    /**
+     * Returns true if data files should be saved as compact JSON instead of pretty-printed JSON.
+     */
+    boolean isCompactJson();
+
+    /**
+     * Returns the format that the data files are stored in.
+     */
+    UserPrefs.StorageFormat getStorageFormat();
+
+    /**
+     * Returns the number of changes that can be undone.
+     */
+    int getUndoHistoryDepth();
+
 }
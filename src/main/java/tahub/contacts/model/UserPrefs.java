@@ -1,6 +1,7 @@
 package tahub.contacts.model;
 
 import static java.util.Objects.requireNonNull;
+import static tahub.contacts.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,10 +14,26 @@ import tahub.contacts.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Number of changes that can be undone, unless set otherwise. */
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+
+    public static final String MESSAGE_UNDO_HISTORY_DEPTH_CONSTRAINTS = "Undo history depth must not be negative";
+
+    /**
+     * Formats that the data files can be stored in.
+     */
+    public enum StorageFormat {
+        JSON, BINARY
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path courseListFilePath = Paths.get("data" , "courselist.json");
     private Path scaListFilePath = Paths.get("data" , "scalist.json");
+    private Path journalFilePath = Paths.get("data" , "journal.txt");
+    private boolean isCompactJson = false;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +55,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCourseListFilePath(newUserPrefs.getCourseListFilePath());
+        setScaListFilePath(newUserPrefs.getScaListFilePath());
+        setJournalFilePath(newUserPrefs.getJournalFilePath());
+        setCompactJson(newUserPrefs.isCompactJson());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -76,6 +99,41 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.courseListFilePath = courseListFilePath;
     }
 
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    public boolean isCompactJson() {
+        return isCompactJson;
+    }
+
+    public void setCompactJson(boolean isCompactJson) {
+        this.isCompactJson = isCompactJson;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, MESSAGE_UNDO_HISTORY_DEPTH_CONSTRAINTS);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -89,12 +147,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && courseListFilePath.equals(otherUserPrefs.courseListFilePath)
+                && scaListFilePath.equals(otherUserPrefs.scaListFilePath)
+                && journalFilePath.equals(otherUserPrefs.journalFilePath)
+                && isCompactJson == otherUserPrefs.isCompactJson
+                && storageFormat == otherUserPrefs.storageFormat
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, courseListFilePath, scaListFilePath, journalFilePath,
+                isCompactJson, storageFormat, undoHistoryDepth);
     }
 
     @Override
@@ -102,6 +167,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCourse list file location : " + courseListFilePath);
+        sb.append("\nSCA list file location : " + scaListFilePath);
+        sb.append("\nJournal file location : " + journalFilePath);
+        sb.append("\nCompact JSON : " + isCompactJson);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
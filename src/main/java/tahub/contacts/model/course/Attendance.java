@@ -2,22 +2,31 @@ package tahub.contacts.model.course;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 import tahub.contacts.model.course.exceptions.AttendanceOperationException;
 
 /**
  * Represents the attendance of a student in the address book.
+ * <p>
+ * Sessions are stored as bits, one per session in the order they were added, with a set bit marking an
+ * attended session. The number of attended sessions is kept up to date as sessions are added and removed.
  */
 public class Attendance {
-    private final ArrayList<AttendanceSession> attendanceList;
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int INITIAL_WORD_COUNT = 1;
+
+    private long[] sessionBits;
+    private int sessionCount;
+    private int attendedCount;
 
     /**
      * Constructs an {@code Attendance} object with an empty starting attendance list.
      */
     public Attendance() {
-        attendanceList = new ArrayList<>();
+        sessionBits = new long[INITIAL_WORD_COUNT];
     }
 
     /**
@@ -27,21 +36,48 @@ public class Attendance {
      */
     public Attendance(List<AttendanceSession> attendanceList) {
         requireNonNull(attendanceList, "Attendance list cannot be null!");
-        this.attendanceList = new ArrayList<>(attendanceList);
+        sessionBits = new long[Math.max(INITIAL_WORD_COUNT, wordCountFor(attendanceList.size()))];
+        for (AttendanceSession session : attendanceList) {
+            addSession(session.getIsSessionAttended());
+        }
+    }
+
+    /**
+     * Returns a new {@link Attendance} object with the same sessions as this one.
+     *
+     * @return An independent copy of this {@link Attendance}.
+     */
+    public Attendance copy() {
+        Attendance copy = new Attendance();
+        copy.sessionBits = Arrays.copyOf(sessionBits, sessionBits.length);
+        copy.sessionCount = sessionCount;
+        copy.attendedCount = attendedCount;
+        return copy;
     }
 
     /**
      * Adds a new lesson marked as attended.
      */
     public void addAttendedLesson() {
-        attendanceList.add(AttendanceSession.createAttended());
+        addSession(true);
     }
 
     /**
      * Adds a new lesson marked as absent.
      */
     public void addAbsentLesson() {
-        attendanceList.add(AttendanceSession.createAbsent());
+        addSession(false);
+    }
+
+    private void addSession(boolean isAttended) {
+        if (sessionCount == sessionBits.length * BITS_PER_WORD) {
+            sessionBits = Arrays.copyOf(sessionBits, sessionBits.length * 2);
+        }
+        if (isAttended) {
+            sessionBits[sessionCount / BITS_PER_WORD] |= 1L << (sessionCount % BITS_PER_WORD);
+            attendedCount++;
+        }
+        sessionCount++;
     }
 
     /**
@@ -51,19 +87,40 @@ public class Attendance {
      *      session when there are no sessions to remove.
      */
     public void removeLast() throws AttendanceOperationException {
-        if (attendanceList.isEmpty()) {
+        if (sessionCount == 0) {
             throw new AttendanceOperationException("No attendance sessions to remove.");
         }
 
-        int lastIndex = attendanceList.size() - 1;
-        attendanceList.remove(lastIndex);
+        int lastIndex = sessionCount - 1;
+        if (isSessionAttended(lastIndex)) {
+            // unused bits are kept clear so that equals and hashCode can compare whole words
+            sessionBits[lastIndex / BITS_PER_WORD] &= ~(1L << (lastIndex % BITS_PER_WORD));
+            attendedCount--;
+        }
+        sessionCount = lastIndex;
     }
 
     /**
      * Clears all sessions from this {@link Attendance} object, i.e. resets it.
      */
     public void clear() {
-        attendanceList.clear();
+        Arrays.fill(sessionBits, 0, wordCountFor(sessionCount), 0L);
+        sessionCount = 0;
+        attendedCount = 0;
+    }
+
+    /**
+     * Gets whether the session at {@code index} was attended.
+     *
+     * @param index Index of the session, with the first session at index 0.
+     * @return whether the session was attended.
+     * @throws IndexOutOfBoundsException If there is no session at {@code index}.
+     */
+    public boolean isSessionAttended(int index) {
+        if (index < 0 || index >= sessionCount) {
+            throw new IndexOutOfBoundsException("No attendance session at index " + index);
+        }
+        return (sessionBits[index / BITS_PER_WORD] & (1L << (index % BITS_PER_WORD))) != 0;
     }
 
     /**
@@ -72,7 +129,7 @@ public class Attendance {
      * @return Number of attended sessions.
      */
     public int getAttendanceAttendedCount() {
-        return (int) attendanceList.stream().filter(AttendanceSession::getIsSessionAttended).count();
+        return attendedCount;
     }
 
     /**
@@ -81,16 +138,22 @@ public class Attendance {
      * @return Number of sessions.
      */
     public int getAttendanceTotalCount() {
-        return attendanceList.size();
+        return sessionCount;
     }
 
     /**
      * Gets the attendance list of this {@link Attendance} object.
+     * The list is an unmodifiable view, so later changes to this {@link Attendance} are visible through it.
+     * Callers that need a fixed copy should copy the list, or use {@link #copy()}.
      *
-     * @return A copy of the internal {@code attendanceList}.
+     * @return An unmodifiable view of the sessions.
      */
     public List<AttendanceSession> getAttendanceList() {
-        return new ArrayList<>(attendanceList);
+        return new SessionView();
+    }
+
+    private static int wordCountFor(int sessionCount) {
+        return (sessionCount + BITS_PER_WORD - 1) / BITS_PER_WORD;
     }
 
     /**
@@ -98,7 +161,7 @@ public class Attendance {
      *
      * @param other Object to be compared against.
      * @return {@code true} if the other object is another {@link Attendance} object with the same
-     *      {@code attendanceList}.
+     *      sessions.
      */
     @Override
     public boolean equals(Object other) {
@@ -111,12 +174,18 @@ public class Attendance {
             return false;
         }
 
-        return attendanceList.equals(otherAttendance.attendanceList);
+        int wordCount = wordCountFor(sessionCount);
+        return sessionCount == otherAttendance.sessionCount
+                && Arrays.equals(sessionBits, 0, wordCount, otherAttendance.sessionBits, 0, wordCount);
     }
 
     @Override
     public int hashCode() {
-        return attendanceList.hashCode();
+        int hash = sessionCount;
+        for (int i = 0; i < wordCountFor(sessionCount); i++) {
+            hash = 31 * hash + Long.hashCode(sessionBits[i]);
+        }
+        return hash;
     }
 
     /**
@@ -125,4 +194,19 @@ public class Attendance {
     public String toString() {
         return String.format("[%d/%d]", getAttendanceAttendedCount(), getAttendanceTotalCount());
     }
+
+    /**
+     * A read-only list view of the sessions, backed by the bits of this {@link Attendance}.
+     */
+    private class SessionView extends AbstractList<AttendanceSession> {
+        @Override
+        public AttendanceSession get(int index) {
+            return AttendanceSession.of(isSessionAttended(index));
+        }
+
+        @Override
+        public int size() {
+            return sessionCount;
+        }
+    }
 }
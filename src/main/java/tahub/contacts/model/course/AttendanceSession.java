@@ -2,8 +2,12 @@ package tahub.contacts.model.course;
 
 /**
  * An immutable object that represents a session that a student attends.
+ * Since a session holds nothing but whether it was attended, the factory methods return shared instances.
  */
 public class AttendanceSession {
+    private static final AttendanceSession ATTENDED = new AttendanceSession(true);
+    private static final AttendanceSession ABSENT = new AttendanceSession(false);
+
     private final boolean isSessionAttended;
 
     /**
@@ -17,21 +21,31 @@ public class AttendanceSession {
     }
 
     /**
-     * Creates a new {@link AttendanceSession} that is marked as attended.
+     * Returns the shared {@link AttendanceSession} with the specified {@code isSessionAttended}.
+     *
+     * @param isSessionAttended whether the session was attended
+     * @return a shared {@link AttendanceSession}.
+     */
+    public static AttendanceSession of(boolean isSessionAttended) {
+        return isSessionAttended ? ATTENDED : ABSENT;
+    }
+
+    /**
+     * Returns the shared {@link AttendanceSession} that is marked as attended.
      *
-     * @return a new {@link AttendanceSession}.
+     * @return a shared {@link AttendanceSession}.
      */
     public static AttendanceSession createAttended() {
-        return new AttendanceSession(true);
+        return ATTENDED;
     }
 
     /**
-     * Creates a new {@link AttendanceSession} that is marked as absent.
+     * Returns the shared {@link AttendanceSession} that is marked as absent.
      *
-     * @return a new {@link AttendanceSession}.
+     * @return a shared {@link AttendanceSession}.
      */
     public static AttendanceSession createAbsent() {
-        return new AttendanceSession(false);
+        return ABSENT;
     }
 
     /**
@@ -2,23 +2,58 @@ package tahub.contacts.model.course;
 
 import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tahub.contacts.model.grade.AssessmentSchema;
+import tahub.contacts.model.tutorial.Tutorial;
+
 /**
  * Represents a Course in the address book.
+ * The assessment schema of a course is shared by the grades of every student enrolled in it, and each of its
+ * tutorials is shared by every student enrolled in that tutorial.
  */
 public class Course {
 
     public final CourseCode courseCode;
     public final CourseName courseName;
+    private final AssessmentSchema assessmentSchema;
+    private final Map<String, Tutorial> tutorials = new ConcurrentHashMap<>();
 
     /**
-     * Constructs a {@code Course}.
+     * Constructs a {@code Course} with no assessments.
      *
      * @param courseName A valid course name.
      */
     public Course(CourseCode courseCode, CourseName courseName) {
-        requireAllNonNull(courseCode, courseName);
+        this(courseCode, courseName, new AssessmentSchema());
+    }
+
+    /**
+     * Constructs a {@code Course} with the given assessment schema.
+     *
+     * @param courseName A valid course name.
+     * @param assessmentSchema The assessments of the course.
+     */
+    public Course(CourseCode courseCode, CourseName courseName, AssessmentSchema assessmentSchema) {
+        requireAllNonNull(courseCode, courseName, assessmentSchema);
         this.courseCode = courseCode;
         this.courseName = courseName;
+        this.assessmentSchema = assessmentSchema;
+    }
+
+    public AssessmentSchema getAssessmentSchema() {
+        return assessmentSchema;
+    }
+
+    /**
+     * Returns the tutorial of this course with the given tutorial ID, creating it the first time it is asked for.
+     * Use {@link Tutorial#of(String, Course)} instead of calling this directly.
+     *
+     * @throws IllegalArgumentException if the tutorial ID is invalid
+     */
+    public Tutorial getTutorial(String tutorialId) {
+        return tutorials.computeIfAbsent(tutorialId, id -> new Tutorial(id, this));
     }
 
     /**
@@ -3,6 +3,10 @@ package tahub.contacts.model.course;
 import static java.util.Objects.requireNonNull;
 import static tahub.contacts.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import tahub.contacts.commons.util.Interner;
+
 /**
  * Represents a Course's code in the unique course list of the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCourseCode(String)}
@@ -15,6 +19,9 @@ public class CourseCode {
     // One or more uppercase letters, followed by 4 digits, and an optional uppercase letter
     public static final String VALIDATION_REGEX = "^[A-Z]+\\d{4}[A-Z]?$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<CourseCode> POOL = new Interner<>(CourseCode::new);
+
     public final String courseCode;
 
     /**
@@ -28,11 +35,21 @@ public class CourseCode {
         this.courseCode = courseCode;
     }
 
+    /**
+     * Returns the canonical {@code CourseCode} for {@code courseCode}, which is only validated the first time.
+     *
+     * @param courseCode A valid course code.
+     */
+    public static CourseCode of(String courseCode) {
+        requireNonNull(courseCode);
+        return POOL.intern(courseCode);
+    }
+
     /**
      * Returns true if a given string is a valid code.
      */
     public static boolean isValidCourseCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,11 +3,20 @@ package tahub.contacts.model.course;
 import static java.util.Objects.requireNonNull;
 import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tahub.contacts.commons.util.PersistentList;
+import tahub.contacts.commons.util.VersionedObservableList;
+import tahub.contacts.commons.util.VersionedObservableList.Restoration;
+import tahub.contacts.model.EntityRef;
 import tahub.contacts.model.course.exceptions.CourseNotFoundException;
 import tahub.contacts.model.course.exceptions.DuplicateCourseException;
 
@@ -18,15 +27,19 @@ import tahub.contacts.model.course.exceptions.DuplicateCourseException;
  * unique in terms of identity in the UniqueCourseList. However, the removal of a course uses Course#equals(Object) so
  * as to ensure that the course with exactly the same fields will be removed.
  *
+ * Each course has an {@link EntityRef}, keyed by course code, that follows edits of the course, so enrollments
+ * referring to it do not have to be rebuilt.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Course#isConflictCourse(Course)
  */
 public class UniqueCourseList implements Iterable<Course> {
 
-    private final ObservableList<Course> internalList = FXCollections.observableArrayList();
+    private final VersionedObservableList<Course> internalList = new VersionedObservableList<>();
     private final ObservableList<Course> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<CourseCode, EntityRef<Course>> refs = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent course as the given argument.
@@ -61,6 +74,7 @@ public class UniqueCourseList implements Iterable<Course> {
             throw new DuplicateCourseException();
         }
         internalList.add(toAdd);
+        refs.put(toAdd.courseCode, new EntityRef<>(toAdd));
     }
 
     /**
@@ -96,6 +110,59 @@ public class UniqueCourseList implements Iterable<Course> {
         }
 
         internalList.set(index, editedCourse);
+        EntityRef<Course> ref = refs.remove(target.courseCode);
+        if (ref != null && target.courseCode.equals(editedCourse.courseCode)) {
+            ref.set(editedCourse);
+        } else {
+            ref = new EntityRef<>(editedCourse);
+        }
+        refs.put(editedCourse.courseCode, ref);
+    }
+
+    /**
+     * Replaces every key of {@code replacements} in the list with its value, as one change of the list.
+     * Either all the replacements are made, or none are.
+     *
+     * @throws CourseNotFoundException if a key is not in the list
+     * @throws DuplicateCourseException if the course codes of the list would no longer be unique afterwards
+     */
+    public void setCourses(Map<Course, Course> replacements) {
+        requireNonNull(replacements);
+        Map<Course, Integer> positions = new HashMap<>();
+        Set<CourseCode> replacedCourseCodes = new HashSet<>();
+        for (Map.Entry<Course, Course> replacement : replacements.entrySet()) {
+            requireAllNonNull(replacement.getKey(), replacement.getValue());
+            int index = internalList.indexOf(replacement.getKey());
+            if (index == -1) {
+                throw new CourseNotFoundException();
+            }
+            positions.put(replacement.getKey(), index);
+            replacedCourseCodes.add(replacement.getKey().courseCode);
+        }
+
+        Set<CourseCode> newCourseCodes = new HashSet<>();
+        for (Course editedCourse : replacements.values()) {
+            boolean clashesWithKeptCourse = refs.containsKey(editedCourse.courseCode)
+                    && !replacedCourseCodes.contains(editedCourse.courseCode);
+            if (clashesWithKeptCourse || !newCourseCodes.add(editedCourse.courseCode)) {
+                throw new DuplicateCourseException();
+            }
+        }
+
+        Map<CourseCode, EntityRef<Course>> replacedRefs = new HashMap<>();
+        replacedCourseCodes.forEach(courseCode -> replacedRefs.put(courseCode, refs.remove(courseCode)));
+        internalList.batch(() -> replacements.forEach((target, editedCourse) -> {
+            internalList.set(positions.get(target), editedCourse);
+            EntityRef<Course> ref = target.courseCode.equals(editedCourse.courseCode)
+                    ? replacedRefs.get(target.courseCode)
+                    : null;
+            if (ref != null) {
+                ref.set(editedCourse);
+            } else {
+                ref = new EntityRef<>(editedCourse);
+            }
+            refs.put(editedCourse.courseCode, ref);
+        }));
     }
 
     /**
@@ -107,16 +174,18 @@ public class UniqueCourseList implements Iterable<Course> {
         if (!internalList.remove(toRemove)) {
             throw new CourseNotFoundException();
         }
+        refs.remove(toRemove.courseCode);
     }
 
     public void setCourses(UniqueCourseList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code courses}.
      * {@code courses} must not contain duplicate courses.
+     * This is the bulk-load path: uniqueness is checked in linear time, and listeners see a single change.
      */
     public void setCourses(List<Course> courses) {
         requireAllNonNull(courses);
@@ -124,13 +193,64 @@ public class UniqueCourseList implements Iterable<Course> {
             throw new DuplicateCourseException();
         }
 
+        replaceAll(courses);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code courses}, a version of the list taken earlier with
+     * {@link #asPersistentList()}. Only the courses that differ from the current version are replaced, and the
+     * references of courses that stay are kept.
+     */
+    public void restore(PersistentList<Course> courses) {
+        requireNonNull(courses);
+        Restoration<Course> restoration = internalList.restore(courses, UnaryOperator.identity());
+        Map<CourseCode, EntityRef<Course>> replacedRefs = new HashMap<>();
+        for (Course course : restoration.removedElements()) {
+            replacedRefs.put(course.courseCode, refs.remove(course.courseCode));
+        }
+        for (Course course : restoration.addedElements()) {
+            EntityRef<Course> ref = replacedRefs.get(course.courseCode);
+            if (ref == null) {
+                ref = new EntityRef<>(course);
+            } else {
+                ref.set(course);
+            }
+            refs.put(course.courseCode, ref);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code courses}, keeping the references of courses that stay.
+     */
+    private void replaceAll(List<Course> courses) {
+        Map<CourseCode, EntityRef<Course>> newRefs = new HashMap<>();
+        for (Course course : courses) {
+            EntityRef<Course> ref = refs.get(course.courseCode);
+            if (ref == null) {
+                ref = new EntityRef<>(course);
+            } else {
+                ref.set(course);
+            }
+            newRefs.put(course.courseCode, ref);
+        }
+
         internalList.setAll(courses);
+        refs.clear();
+        refs.putAll(newRefs);
+    }
+
+    /**
+     * Returns the reference to the course with the given course code, or null if there is no such course.
+     * The reference keeps pointing at the course as it is edited, for as long as the course stays in the list.
+     */
+    public EntityRef<Course> getCourseRef(CourseCode courseCode) {
+        return refs.get(courseCode);
     }
 
     public Course getCourseWithCourseCode(CourseCode courseCode) {
         requireNonNull(courseCode);
-        return internalList.stream().filter(course -> course.courseCode
-                .equals(courseCode)).findFirst().orElse(null);
+        EntityRef<Course> ref = refs.get(courseCode);
+        return ref == null ? null : ref.get();
     }
 
     /**
@@ -140,6 +260,14 @@ public class UniqueCourseList implements Iterable<Course> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current contents of the list, which are not affected by later modifications of the list.
+     * Takes constant time.
+     */
+    public PersistentList<Course> asPersistentList() {
+        return internalList.getVersion();
+    }
+
     @Override
     public Iterator<Course> iterator() {
         return internalList.iterator();
@@ -173,11 +301,10 @@ public class UniqueCourseList implements Iterable<Course> {
      * Returns true if {@code courses} contains only unique courses.
      */
     private boolean coursesAreUnique(List<Course> courses) {
-        for (int i = 0; i < courses.size() - 1; i++) {
-            for (int j = i + 1; j < courses.size(); j++) {
-                if (courses.get(i).isConflictCourse(courses.get(j))) {
-                    return false;
-                }
+        Set<CourseCode> seenCourseCodes = new HashSet<>();
+        for (Course course : courses) {
+            if (!seenCourseCodes.add(course.courseCode)) {
+                return false;
             }
         }
         return true;
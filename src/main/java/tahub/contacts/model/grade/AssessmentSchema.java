@@ -0,0 +1,147 @@
+package tahub.contacts.model.grade;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The assessments of a course and their weights, shared by the grades of every student in the course.
+ * <p>
+ * Each assessment is given a slot, in the order the assessments were added, and grades store their scores by slot.
+ * Slots are never removed or reordered, so a slot stays valid for as long as the schema exists.
+ * <p>
+ * Changes replace the internal state as a whole, so threads reading a schema always see a consistent state.
+ */
+public class AssessmentSchema {
+
+    private volatile State state = State.EMPTY;
+
+    /**
+     * Returns the number of assessments.
+     */
+    public int size() {
+        return state.names.size();
+    }
+
+    /**
+     * Returns the slot of the assessment named {@code assessmentName}, or -1 if there is no such assessment.
+     */
+    public int indexOf(String assessmentName) {
+        Integer slot = state.slots.get(assessmentName);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the name of the assessment in {@code slot}.
+     */
+    public String getName(int slot) {
+        return state.names.get(slot);
+    }
+
+    /**
+     * Returns the weight of the assessment in {@code slot}, or 0.0 if the assessment has no explicit weight.
+     */
+    public double getWeight(int slot) {
+        return state.weights[slot];
+    }
+
+    /**
+     * Returns the names of the assessments in slot order.
+     */
+    public List<String> getAssessmentNames() {
+        return state.names;
+    }
+
+    /**
+     * Returns a number that changes whenever an assessment is added or a weight is changed.
+     */
+    public long getVersion() {
+        return state.version;
+    }
+
+    /**
+     * Returns the slot of the assessment named {@code assessmentName}, adding it without an explicit weight if
+     * there is no such assessment.
+     *
+     * @throws IllegalArgumentException if the assessment name is null or empty
+     */
+    public synchronized int addAssessment(String assessmentName) {
+        requireValidName(assessmentName);
+        int slot = indexOf(assessmentName);
+        if (slot >= 0) {
+            return slot;
+        }
+        state = state.withAssessment(assessmentName, 0.0);
+        return state.names.size() - 1;
+    }
+
+    /**
+     * Sets the weight of the assessment named {@code assessmentName}, adding the assessment if there is no such
+     * assessment. A weight of 0.0 means the assessment shares the weight left over by the other assessments.
+     *
+     * @throws IllegalArgumentException if the assessment name is invalid or if the weight is out of range
+     */
+    public synchronized void setWeight(String assessmentName, double weight) {
+        requireValidName(assessmentName);
+        if (weight < 0 || weight > 1) {
+            throw new IllegalArgumentException("Weight must be between 0 and 1");
+        }
+
+        int slot = indexOf(assessmentName);
+        state = slot < 0 ? state.withAssessment(assessmentName, weight) : state.withWeight(slot, weight);
+    }
+
+    private static void requireValidName(String assessmentName) {
+        if (assessmentName == null || assessmentName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Assessment name cannot be null or empty");
+        }
+    }
+
+    @Override
+    public String toString() {
+        State current = state;
+        StringBuilder builder = new StringBuilder("[");
+        for (int slot = 0; slot < current.names.size(); slot++) {
+            builder.append(slot == 0 ? "" : ", ").append(current.names.get(slot)).append('=')
+                    .append(current.weights[slot]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * An immutable state of the schema.
+     */
+    private static class State {
+        static final State EMPTY = new State(Collections.emptyList(), Collections.emptyMap(), new double[0], 0);
+
+        final List<String> names;
+        final Map<String, Integer> slots;
+        final double[] weights;
+        final long version;
+
+        State(List<String> names, Map<String, Integer> slots, double[] weights, long version) {
+            this.names = names;
+            this.slots = slots;
+            this.weights = weights;
+            this.version = version;
+        }
+
+        State withAssessment(String name, double weight) {
+            String[] newNames = names.toArray(new String[names.size() + 1]);
+            newNames[names.size()] = name;
+            Map<String, Integer> newSlots = new HashMap<>(slots);
+            newSlots.put(name, names.size());
+            double[] newWeights = Arrays.copyOf(weights, weights.length + 1);
+            newWeights[weights.length] = weight;
+            return new State(List.of(newNames), Collections.unmodifiableMap(newSlots), newWeights, version + 1);
+        }
+
+        State withWeight(int slot, double weight) {
+            double[] newWeights = weights.clone();
+            newWeights[slot] = weight;
+            return new State(names, slots, newWeights, version + 1);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package tahub.contacts.model.grade;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+
+/**
+ * The grades of all students enrolled in a course, arranged by the assessments of the course.
+ * <p>
+ * Each enrollment is given a slot, and each assessment of the course a column holding one score per slot, so
+ * course-wide statistics are computed by looping over primitive arrays. Slots without a grade for an assessment
+ * hold {@code NaN} as the score. The weights are those of the course's assessment schema when the matrix is built.
+ * A matrix is a snapshot: later changes to the grades or the schema are not reflected in it.
+ */
+public class CourseGradeMatrix {
+    private final List<StudentCourseAssociation> enrollments;
+    private final Map<String, Integer> columnIndexes;
+    private final double[][] scoreColumns;
+    private final double[] weights;
+
+    private CourseGradeMatrix(List<StudentCourseAssociation> enrollments, Map<String, Integer> columnIndexes,
+                              double[][] scoreColumns, double[] weights) {
+        this.enrollments = enrollments;
+        this.columnIndexes = columnIndexes;
+        this.scoreColumns = scoreColumns;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds the matrix of the grades of {@code enrollments} in {@code course}, which are given slots in the order
+     * of the list. Grades for assessments that are not in the course's schema are left out.
+     *
+     * @param course the course, whose assessment schema gives the columns
+     * @param enrollments the enrollments of the course
+     * @return a {@code CourseGradeMatrix} of their grades
+     */
+    public static CourseGradeMatrix of(Course course, List<StudentCourseAssociation> enrollments) {
+        requireNonNull(course);
+        requireNonNull(enrollments);
+        AssessmentSchema schema = course.getAssessmentSchema();
+        List<String> assessmentNames = schema.getAssessmentNames();
+        int columnCount = assessmentNames.size();
+        int slotCount = enrollments.size();
+
+        Map<String, Integer> columnIndexes = new LinkedHashMap<>();
+        double[] weights = new double[columnCount];
+        for (int column = 0; column < columnCount; column++) {
+            columnIndexes.put(assessmentNames.get(column), column);
+            weights[column] = schema.getWeight(column);
+        }
+
+        double[][] scoreColumns = new double[columnCount][slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            GradingSystem gradingSystem = enrollments.get(slot).getGradingSystem();
+            boolean isSharedSchema = gradingSystem.getSchema() == schema;
+            for (int column = 0; column < columnCount; column++) {
+                double score = isSharedSchema
+                        ? gradingSystem.getScore(column)
+                        : gradingSystem.getGrade(assessmentNames.get(column));
+                scoreColumns[column][slot] = score < 0 ? Double.NaN : score;
+            }
+        }
+
+        return new CourseGradeMatrix(Collections.unmodifiableList(new ArrayList<>(enrollments)),
+                Collections.unmodifiableMap(columnIndexes), scoreColumns, weights);
+    }
+
+    /**
+     * Returns the enrollments in slot order.
+     */
+    public List<StudentCourseAssociation> getEnrollments() {
+        return enrollments;
+    }
+
+    /**
+     * Returns the names of the assessments of the course, in column order.
+     */
+    public List<String> getAssessmentNames() {
+        return new ArrayList<>(columnIndexes.keySet());
+    }
+
+    /**
+     * Gets the score of the enrollment in {@code slot} for an assessment.
+     *
+     * @return the score as a percentage, or -1.0 if the enrollment has no grade for the assessment
+     */
+    public double getScore(int slot, String assessmentName) {
+        Integer column = columnIndexes.get(assessmentName);
+        if (column == null || Double.isNaN(scoreColumns[column][slot])) {
+            return -1.0;
+        }
+        return scoreColumns[column][slot];
+    }
+
+    /**
+     * Calculates the mean score of an assessment over the enrollments that have a grade for it.
+     *
+     * @param assessmentName the name of the assessment
+     * @return the mean score, or -1.0 if no enrollment has a grade for the assessment
+     */
+    public double getAverage(String assessmentName) {
+        Integer column = columnIndexes.get(assessmentName);
+        if (column == null) {
+            return -1.0;
+        }
+
+        double total = 0.0;
+        int count = 0;
+        for (double score : scoreColumns[column]) {
+            if (!Double.isNaN(score)) {
+                total += score;
+                count++;
+            }
+        }
+        return count == 0 ? -1.0 : total / count;
+    }
+
+    /**
+     * Calculates the median score of an assessment over the enrollments that have a grade for it.
+     *
+     * @param assessmentName the name of the assessment
+     * @return the median score, or -1.0 if no enrollment has a grade for the assessment
+     */
+    public double getMedian(String assessmentName) {
+        Integer column = columnIndexes.get(assessmentName);
+        if (column == null) {
+            return -1.0;
+        }
+
+        double[] scores = new double[scoreColumns[column].length];
+        int count = 0;
+        for (double score : scoreColumns[column]) {
+            if (!Double.isNaN(score)) {
+                scores[count++] = score;
+            }
+        }
+        if (count == 0) {
+            return -1.0;
+        }
+        Arrays.sort(scores, 0, count);
+        int middle = count / 2;
+        return count % 2 == 1 ? scores[middle] : (scores[middle - 1] + scores[middle]) / 2;
+    }
+
+    /**
+     * Calculates the overall score of every enrollment, in slot order.
+     * Each overall score is the same as {@link GradingSystem#getOverallScore()} of that enrollment, for enrollments
+     * graded on the course's schema.
+     *
+     * @return the overall scores, with -1.0 for enrollments that have no grades
+     * @throws IllegalStateException if the total weights of an enrollment exceed 1.0
+     */
+    public double[] getOverallScores() {
+        int slotCount = enrollments.size();
+        double[] explicitWeightTotals = new double[slotCount];
+        double[] explicitWeightedScoreTotals = new double[slotCount];
+        double[] unweightedScoreTotals = new double[slotCount];
+        int[] unweightedCounts = new int[slotCount];
+        boolean[] hasGrades = new boolean[slotCount];
+
+        for (int column = 0; column < scoreColumns.length; column++) {
+            double[] scores = scoreColumns[column];
+            double weight = weights[column];
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (Double.isNaN(scores[slot])) {
+                    continue;
+                }
+                hasGrades[slot] = true;
+                if (weight > 0.0) {
+                    explicitWeightTotals[slot] += weight;
+                    explicitWeightedScoreTotals[slot] += scores[slot] * weight;
+                } else {
+                    unweightedScoreTotals[slot] += scores[slot];
+                    unweightedCounts[slot]++;
+                }
+            }
+        }
+
+        double[] overallScores = new double[slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!hasGrades[slot]) {
+                overallScores[slot] = -1.0;
+                continue;
+            }
+            if (explicitWeightTotals[slot] > 1.0 + GradingSystem.WEIGHT_TOLERANCE) {
+                throw new IllegalStateException("Total weights exceed 1.0");
+            }
+            double remainingWeight = Math.max(0.0, 1.0 - explicitWeightTotals[slot]);
+            double defaultWeight = unweightedCounts[slot] > 0 ? remainingWeight / unweightedCounts[slot] : 0.0;
+            overallScores[slot] = explicitWeightedScoreTotals[slot] + unweightedScoreTotals[slot] * defaultWeight;
+        }
+        return overallScores;
+    }
+}
@@ -1,24 +1,75 @@
 package tahub.contacts.model.grade;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Represents a grading system for managing student grades using percentages.
- * This system maintains a list of grades and handles weight distributions.
- * All grades are stored with their respective weights, and the total of all weights must not exceed 1.0.
+ * The assessments and their weights are defined by an {@link AssessmentSchema}, which is usually shared by every
+ * student in a course, and this system only holds the student's score for each assessment slot.
+ * The total of all weights of graded assessments must not exceed 1.0.
+ * <p>
+ * The overall score is kept until a score or the schema changes, so repeated queries do not go through the scores.
  */
 public class GradingSystem {
-    private List<Grade> grades;
+    /** Allowance for rounding errors in the total of the weights. */
+    static final double WEIGHT_TOLERANCE = 1e-9;
+
+    private static final double[] NO_SCORES = new double[0];
+
+    private final AssessmentSchema schema;
+    private double[] scores = NO_SCORES;
+    private int gradedCount;
+
+    private long scoresVersion;
+    private long cachedScoresVersion = -1;
+    private long cachedSchemaVersion = -1;
+    private double cachedOverallScore;
 
     /**
-     * Constructs a new GradingSystem with an empty list of grades.
+     * Constructs a new GradingSystem with no grades and an assessment schema of its own.
      */
     public GradingSystem() {
-        this.grades = new ArrayList<>();
+        this(new AssessmentSchema());
+    }
+
+    /**
+     * Constructs a new GradingSystem with no grades, whose assessments are defined by {@code schema}.
+     */
+    public GradingSystem(AssessmentSchema schema) {
+        requireNonNull(schema);
+        this.schema = schema;
+    }
+
+    /**
+     * Returns a new GradingSystem with the same scores as this one, sharing the same assessment schema.
+     */
+    public GradingSystem copy() {
+        GradingSystem copy = new GradingSystem(schema);
+        copy.scores = scores.clone();
+        copy.gradedCount = gradedCount;
+        return copy;
+    }
+
+    public AssessmentSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Gets the score in an assessment slot of the schema.
+     *
+     * @param slot the slot of the assessment in the schema
+     * @return the score as a percentage, or {@code NaN} if there is no grade for the assessment
+     */
+    public double getScore(int slot) {
+        return slot < scores.length ? scores[slot] : Double.NaN;
     }
 
     /**
@@ -32,31 +83,14 @@ public class GradingSystem {
         if (assessmentName == null || assessmentName.trim().isEmpty()) {
             throw new IllegalArgumentException("Assessment name cannot be null or empty");
         }
-        return grades.stream()
-                .filter(g -> g.getAssessmentName().equals(assessmentName))
-                .findFirst()
-                .map(Grade::getScorePercentage)
-                .orElse(-1.0);
-    }
-
-    /**
-     * Gets the existing weight for a specific assessment.
-     *
-     * @param assessmentName the name of the assessment to find
-     * @return the weight of the assessment
-     * @throws IllegalArgumentException if the assessment is not found
-     */
-    private double getExistingWeight(String assessmentName) {
-        return grades.stream()
-                .filter(g -> g.getAssessmentName().equals(assessmentName))
-                .findFirst()
-                .map(Grade::getWeight)
-                .orElseThrow(() -> new IllegalArgumentException("No grade found for assessment: " + assessmentName));
+        int slot = schema.indexOf(assessmentName);
+        double score = slot < 0 ? Double.NaN : getScore(slot);
+        return Double.isNaN(score) ? -1.0 : score;
     }
 
     /**
      * Adds or updates a grade for a specific assessment.
-     * If the assessment already exists, its score is updated while maintaining its weight.
+     * If the assessment is not in the schema yet, it is added without an explicit weight.
      *
      * @param assessmentName the name of the assessment
      * @param score the numerical score for the assessment (as a percentage)
@@ -70,81 +104,102 @@ public class GradingSystem {
             throw new IllegalArgumentException("Score must be between 0 and 100");
         }
 
-        double weight;
-        try {
-            weight = getExistingWeight(assessmentName);
-        } catch (IllegalArgumentException e) {
-            weight = 0.0;
-        }
+        setScore(schema.addAssessment(assessmentName), score);
+    }
 
-        grades.removeIf(g -> g.getAssessmentName().equals(assessmentName));
-        grades.add(new Grade(assessmentName, score, weight));
+    /**
+     * Sets the score in an assessment slot of the schema.
+     *
+     * @param slot the slot of the assessment in the schema
+     * @param score the score as a percentage
+     */
+    void setScore(int slot, double score) {
+        assert slot < schema.size() : "Slot is not in the schema";
+        if (slot >= scores.length) {
+            int oldLength = scores.length;
+            scores = Arrays.copyOf(scores, Math.max(schema.size(), slot + 1));
+            Arrays.fill(scores, oldLength, scores.length, Double.NaN);
+        }
+        if (Double.isNaN(scores[slot])) {
+            gradedCount++;
+        }
+        scores[slot] = score;
+        scoresVersion++;
     }
 
     /**
-     * Sets the weight for a specific assessment.
+     * Sets the weight for a specific assessment in the schema, which affects every grading system sharing it.
      *
      * @param assessmentName the name of the assessment
      * @param weight the weight of the assessment in the overall grade calculation
      * @throws IllegalArgumentException if the assessment name is invalid or if the weight is out of range
      */
     public void setAssessmentWeight(String assessmentName, double weight) {
-        if (assessmentName == null || assessmentName.trim().isEmpty()) {
-            throw new IllegalArgumentException("Assessment name cannot be null or empty");
-        }
-        if (weight < 0 || weight > 1) {
-            throw new IllegalArgumentException("Weight must be between 0 and 1");
-        }
-
-        Optional<Grade> existingGrade = grades.stream()
-                .filter(g -> g.getAssessmentName().equals(assessmentName))
-                .findFirst();
-
-        grades.removeIf(g -> g.getAssessmentName().equals(assessmentName));
-
-        if (existingGrade.isPresent()) {
-            grades.add(new Grade(assessmentName, existingGrade.get().getScorePercentage(), weight));
-        } else {
-            grades.add(new Grade(assessmentName, 0.0, weight));
-        }
+        schema.setWeight(assessmentName, weight);
     }
 
     /**
      * Calculates and retrieves the overall score.
+     * Graded assessments without an explicit weight share the weight that is left over equally.
      *
      * @return the weighted average score of all assessments, or -1.0 if no grades are recorded
      * @throws IllegalStateException if total weights exceed 1.0
      */
     public double getOverallScore() {
-        if (grades.isEmpty()) {
+        if (gradedCount == 0) {
             return -1.0;
         }
 
-        Map<String, Double> explicitWeights = grades.stream()
-                .filter(g -> g.getWeight() > 0.0)
-                .collect(Collectors.toMap(Grade::getAssessmentName, Grade::getWeight));
+        long schemaVersion = schema.getVersion();
+        if (cachedScoresVersion != scoresVersion || cachedSchemaVersion != schemaVersion) {
+            cachedOverallScore = calculateOverallScore();
+            cachedScoresVersion = scoresVersion;
+            cachedSchemaVersion = schemaVersion;
+        }
+        return cachedOverallScore;
+    }
 
-        double totalWeight = explicitWeights.values().stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
+    private double calculateOverallScore() {
+        double explicitWeightTotal = 0.0;
+        double explicitWeightedScoreTotal = 0.0;
+        double unweightedScoreTotal = 0.0;
+        int unweightedCount = 0;
+        for (int slot = 0; slot < scores.length; slot++) {
+            if (Double.isNaN(scores[slot])) {
+                continue;
+            }
+            double weight = schema.getWeight(slot);
+            if (weight > 0.0) {
+                explicitWeightTotal += weight;
+                explicitWeightedScoreTotal += scores[slot] * weight;
+            } else {
+                unweightedScoreTotal += scores[slot];
+                unweightedCount++;
+            }
+        }
 
-        if (totalWeight > 1.0) {
+        if (explicitWeightTotal > 1.0 + WEIGHT_TOLERANCE) {
             throw new IllegalStateException("Total weights exceed 1.0");
         }
 
-        double remainingWeight = 1.0 - totalWeight;
-        int unweightedCount = grades.size() - explicitWeights.size();
+        double remainingWeight = Math.max(0.0, 1.0 - explicitWeightTotal);
         double defaultWeight = unweightedCount > 0 ? remainingWeight / unweightedCount : 0.0;
+        return explicitWeightedScoreTotal + unweightedScoreTotal * defaultWeight;
+    }
 
-        double totalScore = 0.0;
-        for (Grade grade : grades) {
-            double weight = explicitWeights.containsKey(grade.getAssessmentName())
-                    ? grade.getWeight()
-                    : defaultWeight;
-            totalScore += grade.getScorePercentage() * weight;
+    /**
+     * Retrieves all grades, in schema slot order.
+     *
+     * @return the grades, each with the weight of its assessment in the schema
+     */
+    public Collection<Grade> getGrades() {
+        List<Grade> grades = new ArrayList<>(gradedCount);
+        for (int slot = 0; slot < scores.length; slot++) {
+            if (!Double.isNaN(scores[slot])) {
+                grades.add(new Grade(schema.getName(slot), scores[slot], schema.getWeight(slot)));
+            }
         }
-
-        return totalScore;
+        return Collections.unmodifiableList(grades);
     }
 
     /**
@@ -153,22 +208,27 @@ public class GradingSystem {
      * @return a Map containing all assessment names and their corresponding scores
      */
     public Map<String, Double> getAllGrades() {
-        return grades.stream()
-                .collect(Collectors.toMap(
-                        Grade::getAssessmentName,
-                        Grade::getScorePercentage));
+        Map<String, Double> allGrades = new LinkedHashMap<>();
+        for (int slot = 0; slot < scores.length; slot++) {
+            if (!Double.isNaN(scores[slot])) {
+                allGrades.put(schema.getName(slot), scores[slot]);
+            }
+        }
+        return allGrades;
     }
 
     /**
      * Retrieves all assessment weights.
      *
-     * @return a Map containing all assessment names and their corresponding weights
+     * @return a Map containing all assessment names in the schema and their corresponding explicit weights
      */
     public Map<String, Double> getAllWeights() {
-        return grades.stream()
-                .filter(g -> g.getWeight() > 0.0)
-                .collect(Collectors.toMap(
-                        Grade::getAssessmentName,
-                        Grade::getWeight));
+        Map<String, Double> allWeights = new LinkedHashMap<>();
+        for (int slot = 0; slot < schema.size(); slot++) {
+            if (schema.getWeight(slot) > 0.0) {
+                allWeights.put(schema.getName(slot), schema.getWeight(slot));
+            }
+        }
+        return allWeights;
     }
 }
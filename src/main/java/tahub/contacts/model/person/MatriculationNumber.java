@@ -9,6 +9,9 @@ import com.fasterxml.jackson.annotation.JsonValue;
 /**
  * Represents a Person's matriculation number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMatriculationNumber(String)}
+ * <p>
+ * A matriculation number is also packed into a single {@code long} (see {@link #toLong()}), which is used for
+ * equality and hashing and lets indexes key on matriculation numbers without hashing strings.
  */
 public class MatriculationNumber {
 
@@ -16,7 +19,12 @@ public class MatriculationNumber {
             + "format A<7 digits><Uppercase alphabetical character>, e.g., A1234567Z";
     public static final String VALIDATION_REGEX = "^A\\d{7}[A-Z]$"; // A followed by 7 digits and an uppercase letter
 
+    private static final int DIGIT_COUNT = 7;
+    private static final int LENGTH = DIGIT_COUNT + 2;
+    private static final int LETTER_COUNT = 26;
+
     public final String value;
+    private final long packedValue;
 
     /**
      * Constructs an {@code MatriculationNumber}.
@@ -26,15 +34,50 @@ public class MatriculationNumber {
     @JsonCreator
     public MatriculationNumber(String matricNumber) {
         requireNonNull(matricNumber);
-        checkArgument(isValidMatriculationNumber(matricNumber), MESSAGE_CONSTRAINTS);
+        long packed = pack(matricNumber);
+        checkArgument(packed >= 0, MESSAGE_CONSTRAINTS);
         value = matricNumber;
+        packedValue = packed;
     }
 
     /**
      * Returns if a given string is a valid matriculation number.
      */
     public static boolean isValidMatriculationNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return pack(test) >= 0;
+    }
+
+    /**
+     * Packs a matriculation number into a {@code long}, without creating a {@code MatriculationNumber}.
+     * Two valid matriculation numbers are packed into the same value if and only if they are equal.
+     *
+     * @param matricNumber the matriculation number to pack
+     * @return the packed value, or -1 if {@code matricNumber} does not match {@link #VALIDATION_REGEX}
+     */
+    public static long pack(String matricNumber) {
+        if (matricNumber.length() != LENGTH || matricNumber.charAt(0) != 'A') {
+            return -1;
+        }
+        long digits = 0;
+        for (int i = 1; i <= DIGIT_COUNT; i++) {
+            char c = matricNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            digits = digits * 10 + (c - '0');
+        }
+        char letter = matricNumber.charAt(LENGTH - 1);
+        if (letter < 'A' || letter > 'Z') {
+            return -1;
+        }
+        return digits * LETTER_COUNT + (letter - 'A');
+    }
+
+    /**
+     * Returns this matriculation number packed into a {@code long}, as by {@link #pack(String)}.
+     */
+    public long toLong() {
+        return packedValue;
     }
 
     @Override
@@ -55,11 +98,11 @@ public class MatriculationNumber {
         }
 
         MatriculationNumber otherMatricNumber = (MatriculationNumber) other;
-        return value.equals(otherMatricNumber.value);
+        return packedValue == otherMatricNumber.packedValue;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(packedValue);
     }
 }
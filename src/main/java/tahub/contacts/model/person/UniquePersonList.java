@@ -3,11 +3,20 @@ package tahub.contacts.model.person;
 import static java.util.Objects.requireNonNull;
 import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tahub.contacts.commons.util.LongIntHashMap;
+import tahub.contacts.commons.util.PersistentList;
+import tahub.contacts.commons.util.VersionedObservableList;
+import tahub.contacts.commons.util.VersionedObservableList.Restoration;
+import tahub.contacts.model.EntityRef;
 import tahub.contacts.model.person.exceptions.DuplicatePersonException;
 import tahub.contacts.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +27,32 @@ import tahub.contacts.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is its matriculation number, the list keeps a hash index from the packed matriculation
+ * number (see {@link MatriculationNumber#toLong()}) to the person's position in the backing list, so identity lookups
+ * do not need to scan the list, and neither box their keys nor hash strings. Each person also has an
+ * {@link EntityRef} that follows edits of the person, so enrollments referring to it do not have to be rebuilt.
+ * The reference of a person who leaves the list is kept by matriculation number, and given back to the person with
+ * that matriculation number who next joins it (such as through an undo), since enrollments can outlive the person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final VersionedObservableList<Person> internalList = new VersionedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final LongIntHashMap positionsByMatric = new LongIntHashMap();
+    private final List<EntityRef<Person>> refs = new ArrayList<>();
+    private final Map<MatriculationNumber, EntityRef<Person>> retiredRefs = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionsByMatric.containsKey(toCheck.getMatricNumber().toLong());
     }
 
     /**
@@ -46,6 +65,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        refs.add(takeRef(toAdd));
+        index(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -56,7 +77,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,6 +87,73 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        if (target.isSamePerson(editedPerson)) {
+            refs.get(index).set(editedPerson);
+        } else {
+            retireRef(target, refs.get(index));
+            refs.set(index, takeRef(editedPerson));
+        }
+        unindex(target);
+        index(editedPerson, index);
+    }
+
+    /**
+     * Replaces every key of {@code replacements} in the list with its value, as one change of the list.
+     * Either all the replacements are made, or none are.
+     *
+     * @throws PersonNotFoundException if a key is not in the list
+     * @throws DuplicatePersonException if the identities of the list would no longer be unique afterwards
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        int[] positions = new int[replacements.size()];
+        LongIntHashMap replacedPositions = new LongIntHashMap();
+        int i = 0;
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            requireAllNonNull(replacement.getKey(), replacement.getValue());
+            positions[i] = indexOf(replacement.getKey());
+            if (positions[i] == -1) {
+                throw new PersonNotFoundException();
+            }
+            replacedPositions.put(positions[i], 0);
+            i++;
+        }
+
+        LongIntHashMap newMatricNumbers = new LongIntHashMap();
+        for (Person editedPerson : replacements.values()) {
+            long matricNumber = editedPerson.getMatricNumber().toLong();
+            int existingPosition = positionsByMatric.get(matricNumber);
+            boolean clashesWithKeptPerson = existingPosition != LongIntHashMap.MISSING
+                    && !replacedPositions.containsKey(existingPosition);
+            if (clashesWithKeptPerson || newMatricNumbers.put(matricNumber, 0) != LongIntHashMap.MISSING) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        replacements.keySet().forEach(this::unindex);
+        // every reference is retired first, so that persons swapping identities take each other's references
+        int k = 0;
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            if (!replacement.getKey().isSamePerson(replacement.getValue())) {
+                retireRef(replacement.getKey(), refs.get(positions[k]));
+            }
+            k++;
+        }
+        internalList.batch(() -> {
+            int j = 0;
+            for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+                Person target = replacement.getKey();
+                Person editedPerson = replacement.getValue();
+                internalList.set(positions[j], editedPerson);
+                if (target.isSamePerson(editedPerson)) {
+                    refs.get(positions[j]).set(editedPerson);
+                } else {
+                    refs.set(positions[j], takeRef(editedPerson));
+                }
+                index(editedPerson, positions[j]);
+                j++;
+            }
+        });
     }
 
     /**
@@ -74,19 +162,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        retireRef(toRemove, refs.remove(index));
+        unindex(toRemove);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByMatric.put(internalList.get(i).getMatricNumber().toLong(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: uniqueness is checked and the index is built in linear time, and listeners
+     * see a single change.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
@@ -94,7 +192,59 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        replaceAll(persons);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, a version of the list taken earlier with
+     * {@link #asPersistentList()}. Only the persons that differ from the current version are replaced, and the
+     * references of persons that stay or come back are kept.
+     */
+    public void restore(PersistentList<Person> persons) {
+        requireNonNull(persons);
+        Restoration<Person> restoration = internalList.restore(persons, UnaryOperator.identity());
+        int fromIndex = restoration.fromIndex();
+        List<Person> removedPersons = restoration.removedElements();
+        List<Person> addedPersons = restoration.addedElements();
+
+        List<EntityRef<Person>> replacedRefs = refs.subList(fromIndex, fromIndex + removedPersons.size());
+        for (int i = 0; i < removedPersons.size(); i++) {
+            retireRef(removedPersons.get(i), replacedRefs.get(i));
+            unindex(removedPersons.get(i));
+        }
+        List<EntityRef<Person>> newRefs = new ArrayList<>(addedPersons.size());
+        for (Person person : addedPersons) {
+            newRefs.add(takeRef(person));
+        }
+        replacedRefs.clear();
+        refs.addAll(fromIndex, newRefs);
+
+        // the persons after the replaced ones have only moved if the number of persons has changed
+        int movedEnd = removedPersons.size() == addedPersons.size()
+                ? fromIndex + addedPersons.size()
+                : internalList.size();
+        for (int i = fromIndex; i < movedEnd; i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, keeping the references of persons that stay or come
+     * back.
+     */
+    private void replaceAll(List<Person> persons) {
+        for (int i = 0; i < internalList.size(); i++) {
+            retireRef(internalList.get(i), refs.get(i));
+        }
+        List<EntityRef<Person>> newRefs = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            newRefs.add(takeRef(person));
+        }
+
         internalList.setAll(persons);
+        refs.clear();
+        refs.addAll(newRefs);
+        rebuildIndex();
     }
 
     /**
@@ -104,6 +254,14 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current contents of the list, which are not affected by later modifications of the list.
+     * Takes constant time.
+     */
+    public PersistentList<Person> asPersistentList() {
+        return internalList.getVersion();
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -138,31 +296,94 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        LongIntHashMap seenMatricNumbers = new LongIntHashMap();
+        for (Person person : persons) {
+            if (seenMatricNumbers.put(person.getMatricNumber().toLong(), 0) != LongIntHashMap.MISSING) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the person with the given matriculation number, or null if there is no such person
+     * (including when {@code matricNumber} is not a valid matriculation number).
+     */
     public Person getPersonByMatricNumber(String matricNumber) {
-        for (Person person : internalList) {
-            if (person.getMatricNumber().toString().equals(matricNumber)) {
-                return person;
-            }
+        if (matricNumber == null) {
+            return null;
         }
-        return null;
+        long packedMatricNumber = MatriculationNumber.pack(matricNumber);
+        return packedMatricNumber < 0 ? null : getPersonAt(positionsByMatric.get(packedMatricNumber));
     }
 
+    /**
+     * Returns the person with the given matriculation number, or null if there is no such person.
+     */
     public Person getPersonByMatricNumber(MatriculationNumber matricNumber) {
-        for (Person person : internalList) {
-            if (person.getMatricNumber().equals(matricNumber)) {
-                return person;
-            }
+        return getPersonAt(positionsByMatric.get(matricNumber.toLong()));
+    }
+
+    /**
+     * Returns the reference to the person with the given matriculation number, or null if there is no such person.
+     * The reference keeps pointing at the person as it is edited, for as long as the person stays in the list.
+     */
+    public EntityRef<Person> getPersonRef(MatriculationNumber matricNumber) {
+        int position = positionsByMatric.get(matricNumber.toLong());
+        return position == LongIntHashMap.MISSING ? null : refs.get(position);
+    }
+
+    /**
+     * Returns the reference that {@code person} had when they last left the list, pointed at {@code person},
+     * or a new reference if they have not been in the list before.
+     */
+    private EntityRef<Person> takeRef(Person person) {
+        EntityRef<Person> ref = retiredRefs.remove(person.getMatricNumber());
+        if (ref == null) {
+            return new EntityRef<>(person);
+        }
+        ref.set(person);
+        return ref;
+    }
+
+    /**
+     * Keeps {@code ref}, the reference of {@code person} who is leaving the list, until a person with the same
+     * matriculation number joins the list.
+     */
+    private void retireRef(Person person, EntityRef<Person> ref) {
+        retiredRefs.put(person.getMatricNumber(), ref);
+    }
+
+    private Person getPersonAt(int position) {
+        return position == LongIntHashMap.MISSING ? null : internalList.get(position);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the backing list, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        int index = positionsByMatric.get(person.getMatricNumber().toLong());
+        if (index == LongIntHashMap.MISSING || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private void index(Person person, int position) {
+        positionsByMatric.put(person.getMatricNumber().toLong(), position);
+    }
+
+    private void unindex(Person person) {
+        positionsByMatric.remove(person.getMatricNumber().toLong());
+    }
+
+    /**
+     * Discards the index and rebuilds it from the current contents of {@code internalList}.
+     */
+    private void rebuildIndex() {
+        positionsByMatric.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
         }
-        return null;
     }
 }
@@ -1,7 +1,9 @@
 package tahub.contacts.model.studentcourseassociation;
 
+import tahub.contacts.model.EntityRef;
 import tahub.contacts.model.course.Attendance;
 import tahub.contacts.model.course.Course;
+import tahub.contacts.model.grade.GradingSystem;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.tutorial.Tutorial;
 
@@ -9,12 +11,17 @@ import tahub.contacts.model.tutorial.Tutorial;
 /**
  * Represents an association between a student, course, grading system, and tutorial
  * Can be viewed as an enrollment of a student into a particular course and a particular tutorial
+ * <p>
+ * The student and course are held through {@link EntityRef}s. Once the association is in the SCA list of a model,
+ * these are the references kept by the model's person and course lists, so edits of the student or course are seen
+ * here without the association being rebuilt.
  */
 public class StudentCourseAssociation {
-    private final Person student;
-    private final Course course;
-    private final Tutorial tutorial;
+    private EntityRef<Person> student;
+    private EntityRef<Course> course;
+    private Tutorial tutorial;
     private final Attendance attendance;
+    private final GradingSystem gradingSystem;
 
 
     /**
@@ -28,10 +35,11 @@ public class StudentCourseAssociation {
      * @param tutorial the tutorial associated with this association
      */
     public StudentCourseAssociation(Person student, Course course, Tutorial tutorial) {
-        this.student = student;
-        this.course = course;
+        this.student = new EntityRef<>(student);
+        this.course = new EntityRef<>(course);
         this.tutorial = tutorial;
         this.attendance = new Attendance();
+        this.gradingSystem = new GradingSystem(course.getAssessmentSchema());
     }
 
     /**
@@ -46,10 +54,27 @@ public class StudentCourseAssociation {
      * @param attendance the Attendance instance associated with this association
      */
     public StudentCourseAssociation(Person student, Course course, Tutorial tutorial, Attendance attendance) {
-        this.student = student;
-        this.course = course;
+        this(student, course, tutorial, attendance, new GradingSystem(course.getAssessmentSchema()));
+    }
+
+    /**
+     * Represents an association between a student, course, grading system, tutorial, and attendance.
+     * This constructor is to be used if the SCA has already been prepopulated with
+     * Attendance and grades (such as when de-serialising an JsonAdaptedSCA from storage to this Model).
+     *
+     * @param student the student associated with this association
+     * @param course the course associated with this association
+     * @param tutorial the tutorial associated with this association
+     * @param attendance the Attendance instance associated with this association
+     * @param gradingSystem the GradingSystem instance holding the grades of this association
+     */
+    public StudentCourseAssociation(Person student, Course course, Tutorial tutorial, Attendance attendance,
+                                    GradingSystem gradingSystem) {
+        this.student = new EntityRef<>(student);
+        this.course = new EntityRef<>(course);
         this.tutorial = tutorial;
         this.attendance = attendance;
+        this.gradingSystem = gradingSystem;
     }
 
     /**
@@ -58,7 +83,7 @@ public class StudentCourseAssociation {
      * @return the student associated with this StudentCourseAssociation
      */
     public Person getStudent() {
-        return student;
+        return student.get();
     }
 
     /**
@@ -67,13 +92,45 @@ public class StudentCourseAssociation {
      * @return the Course object associated with this StudentCourseAssociation
      */
     public Course getCourse() {
-        return course;
+        return course.get();
     }
 
+    /**
+     * Retrieves the Tutorial associated with this StudentCourseAssociation.
+     * If the tutorial belongs to an earlier version of the course, the same tutorial of the current version is
+     * returned instead.
+     */
     public Tutorial getTutorial() {
+        Course currentCourse = course.get();
+        if (tutorial.getCourse() != currentCourse && tutorial.getCourse().equals(currentCourse)) {
+            tutorial = Tutorial.of(tutorial.getTutorialId(), currentCourse);
+        }
         return tutorial;
     }
 
+    /**
+     * Makes this association resolve its student and course through {@code studentRef} and {@code courseRef},
+     * which are the references of the same student and course kept by a person list and a course list.
+     * A null reference leaves the current one in place.
+     */
+    void bind(EntityRef<Person> studentRef, EntityRef<Course> courseRef) {
+        if (studentRef != null) {
+            student = studentRef;
+        }
+        if (courseRef != null) {
+            course = courseRef;
+        }
+    }
+
+    /**
+     * Returns a copy of this association with its own attendance and grades, which does not follow later edits of
+     * its student and course.
+     */
+    public StudentCourseAssociation copy() {
+        return new StudentCourseAssociation(getStudent(), getCourse(), getTutorial(), attendance.copy(),
+                gradingSystem.copy());
+    }
+
     //=========== Attendance ==================================================================================
 
     /**
@@ -85,6 +142,17 @@ public class StudentCourseAssociation {
         return attendance;
     }
 
+    //=========== Grades ======================================================================================
+
+    /**
+     * Retrieves the {@link GradingSystem} instance holding the grades of this StudentCourseAssociation.
+     *
+     * @return the {@link GradingSystem} instance.
+     */
+    public GradingSystem getGradingSystem() {
+        return gradingSystem;
+    }
+
     //=========== Utility ==================================================================================
 
     /**
@@ -107,21 +175,21 @@ public class StudentCourseAssociation {
         }
 
         StudentCourseAssociation otherStudentCourseAssociation = (StudentCourseAssociation) other;
-        boolean checkStudentAndCourse = this.student.equals(otherStudentCourseAssociation.student)
-                && this.course.equals(otherStudentCourseAssociation.course);
+        boolean checkStudentAndCourse = getStudent().equals(otherStudentCourseAssociation.getStudent())
+                && getCourse().equals(otherStudentCourseAssociation.getCourse());
 
         if (!checkStudentAndCourse) {
             return false;
         }
 
-        return this.tutorial.equals(otherStudentCourseAssociation.tutorial);
+        return getTutorial().equals(otherStudentCourseAssociation.getTutorial());
     }
 
     @Override
     public String toString() {
         return String.format("Matriculation Number: %s Course Code: %s "
-                                     + "Tutorial Group: %s ", student.getMatricNumber(),
-                             course.courseCode, tutorial.getTutorialId());
+                                     + "Tutorial Group: %s ", getStudent().getMatricNumber(),
+                             getCourse().courseCode, tutorial.getTutorialId());
     }
     /**
      * Compares this {@code StudentCourseAssociation} with another {@code StudentCourseAssociation} for equality
@@ -135,8 +203,8 @@ public class StudentCourseAssociation {
             return true;
         }
 
-        return this.student.isSamePerson(other.student)
-                && this.course.isConflictCourse(other.course)
-                && this.tutorial.equals(other.tutorial);
+        return getStudent().isSamePerson(other.getStudent())
+                && getCourse().isConflictCourse(other.getCourse())
+                && getTutorial().equals(other.getTutorial());
     }
 }
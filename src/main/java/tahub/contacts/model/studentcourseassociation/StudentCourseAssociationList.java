@@ -1,33 +1,110 @@
 package tahub.contacts.model.studentcourseassociation;
 
 import static java.util.Objects.requireNonNull;
+import static tahub.contacts.commons.util.AppUtil.checkArgument;
 import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tahub.contacts.commons.util.LongIntHashMap;
+import tahub.contacts.commons.util.PersistentList;
+import tahub.contacts.commons.util.VersionedObservableList;
+import tahub.contacts.commons.util.VersionedObservableList.Restoration;
+import tahub.contacts.model.EntityRef;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
 import tahub.contacts.model.course.CourseName;
 import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.grade.AssessmentSchema;
+import tahub.contacts.model.grade.CourseGradeMatrix;
 import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Person;
+import tahub.contacts.model.studentcourseassociation.exceptions.DuplicateScaException;
 import tahub.contacts.model.studentcourseassociation.exceptions.ScaNotFoundException;
 import tahub.contacts.model.tutorial.Tutorial;
 
 /**
  * A list of StudentCourseAssociations that enforces uniqueness between its elements and does not allow nulls.
+ * An SCA is identified by its matriculation number, course code and tutorial ID, so at most one SCA with a given
+ * identity can be in the list at any time.
+ * <p></p>
+ * Besides the observable backing list used by the UI, the list keeps hash indexes on the SCA identity, on the
+ * matriculation number, on the course code and on the (course code, tutorial ID) pair. These are kept in sync by
+ * every mutating operation, so lookups only look at the SCAs that can possibly match. Matriculation numbers are
+ * indexed in their packed form (see {@link MatriculationNumber#toLong()}), and a student keeps their bucket until
+ * the indexes are rebuilt, even after their last SCA is removed.
+ * <p></p>
+ * The list of a model is given the model's person and course registries (see {@link #useRegistries}), and binds
+ * every SCA it holds to the references kept there. Editing a person or course then updates the SCAs through those
+ * references, without any SCA being replaced.
+ * <p></p>
+ * The contents of the list can be taken as a {@link PersistentList} of copies of the SCAs (see
+ * {@link #asPersistentList()}), which is kept up to date at O(log n) cost per modification. Since attendance is
+ * modified in place, and person and course edits reach the SCAs through references, the list must be told of such
+ * changes with {@code markModified}. The position of every SCA in the backing list is tracked by reference, so that
+ * only the copies of the modified SCAs are replaced.
+ * <p></p>
+ * Every course has a version that changes whenever one of its SCAs is added, removed or marked as modified. The
+ * grade matrix of a course is kept until the version of the course or its assessment schema changes.
+ * <p></p>
  * Supports a minimal set of list operations.
  */
 public class StudentCourseAssociationList implements Iterable<StudentCourseAssociation> {
 
-    private final ObservableList<StudentCourseAssociation> internalList = FXCollections.observableArrayList();
+    private final VersionedObservableList<StudentCourseAssociation> internalList =
+            new VersionedObservableList<>(StudentCourseAssociation::copy);
     private final ObservableList<StudentCourseAssociation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<ScaKey, StudentCourseAssociation> scaIndex = new HashMap<>();
+    private final LongIntHashMap matricSlots = new LongIntHashMap();
+    private final List<List<StudentCourseAssociation>> matricBuckets = new ArrayList<>();
+    private final Map<CourseCode, List<StudentCourseAssociation>> courseIndex = new HashMap<>();
+    private final Map<TutorialKey, List<StudentCourseAssociation>> tutorialIndex = new HashMap<>();
+    private final Map<StudentCourseAssociation, Integer> positions = new IdentityHashMap<>();
+    private final Map<CourseCode, Long> courseVersions = new HashMap<>();
+    private final Map<CourseCode, CachedGradeMatrix> gradeMatrices = new HashMap<>();
+
+    private Function<MatriculationNumber, EntityRef<Person>> personRegistry;
+    private Function<CourseCode, EntityRef<Course>> courseRegistry;
+
+    /**
+     * Binds the SCAs of this list, now and when they are added later, to the person and course references given by
+     * {@code personRegistry} and {@code courseRegistry}. A list is only bound to the registries of the first model
+     * it is used by, and later calls are ignored.
+     *
+     * @param personRegistry gives the reference to the person with a matriculation number, or null if there is none
+     * @param courseRegistry gives the reference to the course with a course code, or null if there is none
+     */
+    public void useRegistries(Function<MatriculationNumber, EntityRef<Person>> personRegistry,
+                              Function<CourseCode, EntityRef<Course>> courseRegistry) {
+        requireAllNonNull(personRegistry, courseRegistry);
+        if (this.personRegistry != null) {
+            return;
+        }
+        this.personRegistry = personRegistry;
+        this.courseRegistry = courseRegistry;
+        internalList.forEach(this::bind);
+    }
+
+    private void bind(StudentCourseAssociation sca) {
+        if (personRegistry != null) {
+            sca.bind(personRegistry.apply(sca.getStudent().getMatricNumber()),
+                    courseRegistry.apply(sca.getCourse().courseCode));
+        }
+    }
+
     /**
      * Checks if the specified StudentCourseAssociation is present in the internalList.
      *
@@ -36,19 +113,22 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public boolean contains(StudentCourseAssociation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        StudentCourseAssociation indexed = scaIndex.get(ScaKey.of(toCheck));
+        return indexed != null && indexed.equals(toCheck);
     }
 
     /**
      * Adds a SCA to the list.
-     * The SCA must not already exist in the list.
+     * No SCA with the same matriculation number, course code and tutorial ID may already exist in the list.
      */
     public void add(StudentCourseAssociation toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new RuntimeException("Duplicate SCA detected");
+        if (scaIndex.containsKey(ScaKey.of(toAdd))) {
+            throw new DuplicateScaException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd, internalList.size() - 1);
+        index(toAdd);
     }
 
     /**
@@ -63,7 +143,7 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public ObservableList<StudentCourseAssociation> get(Person student) {
         ObservableList<StudentCourseAssociation> studentScas = FXCollections.observableArrayList();
-        for (StudentCourseAssociation sca : internalList) {
+        for (StudentCourseAssociation sca : lookupByMatric(student.getMatricNumber().toLong())) {
             if (sca.getStudent().equals(student)) {
                 studentScas.add(sca);
             }
@@ -76,7 +156,7 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public ObservableList<StudentCourseAssociation> get(Course course) {
         ObservableList<StudentCourseAssociation> courseScas = FXCollections.observableArrayList();
-        for (StudentCourseAssociation sca : internalList) {
+        for (StudentCourseAssociation sca : lookup(courseIndex, course.courseCode)) {
             if (sca.getCourse().equals(course)) {
                 courseScas.add(sca);
             }
@@ -89,7 +169,7 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public ObservableList<StudentCourseAssociation> get(Person student, Course course) {
         ObservableList<StudentCourseAssociation> studentCourseScas = FXCollections.observableArrayList();
-        for (StudentCourseAssociation sca : internalList) {
+        for (StudentCourseAssociation sca : lookupByMatric(student.getMatricNumber().toLong())) {
             if (sca.getStudent().equals(student) && sca.getCourse().equals(course)) {
                 studentCourseScas.add(sca);
             }
@@ -102,7 +182,8 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public ObservableList<StudentCourseAssociation> get(Course course, Tutorial tutorial) {
         ObservableList<StudentCourseAssociation> courseTutorialScas = FXCollections.observableArrayList();
-        for (StudentCourseAssociation sca : internalList) {
+        TutorialKey key = new TutorialKey(course.courseCode, tutorial.getTutorialId());
+        for (StudentCourseAssociation sca : lookup(tutorialIndex, key)) {
             if (sca.getCourse().equals(course) && sca.getTutorial().equals(tutorial)) {
                 courseTutorialScas.add(sca);
             }
@@ -116,13 +197,9 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      * Returns the SCA list of a student by matric number.
      */
     public ObservableList<StudentCourseAssociation> getByMatric(String matricNumber) {
-        ObservableList<StudentCourseAssociation> studentScas = FXCollections.observableArrayList();
-        for (StudentCourseAssociation sca : internalList) {
-            if (sca.getStudent().getMatricNumber().equals(new MatriculationNumber(matricNumber))) {
-                studentScas.add(sca);
-            }
-        }
-        return studentScas;
+        long packedMatricNumber = MatriculationNumber.pack(matricNumber);
+        checkArgument(packedMatricNumber >= 0, MatriculationNumber.MESSAGE_CONSTRAINTS);
+        return FXCollections.observableArrayList(lookupByMatric(packedMatricNumber));
     }
 
     /**
@@ -148,15 +225,12 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
                 "SCA not found for the query: %s, %s, %s",
                 matricNumber, courseCodeString, tutorialCodeString);
 
-        return internalList
-                .stream()
-                .filter(sca ->
-                                sca.getStudent().getMatricNumber().equals(compMatricNumber)
-                                        && sca.getCourse().isConflictCourse(compCourse) && sca.getTutorial()
-                                        .equals(compTutorial)
-                       )
-                .findFirst()
-                .orElseThrow(() -> new ScaNotFoundException(notFoundErrorMessage));
+        StudentCourseAssociation sca = scaIndex.get(new ScaKey(compMatricNumber.toLong(), compCourse.courseCode,
+                compTutorial.getTutorialId()));
+        if (sca == null || !sca.getTutorial().equals(compTutorial)) {
+            throw new ScaNotFoundException(notFoundErrorMessage);
+        }
+        return sca;
     }
 
     /**
@@ -173,10 +247,11 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
                 "SCA not found for the query SCA: %s",
                 toFind);
 
-        return internalList.stream()
-                .filter(sca -> sca.isSameSca(toFind))
-                .findFirst()
-                .orElseThrow(() -> new ScaNotFoundException(notFoundErrorMessage));
+        StudentCourseAssociation sca = scaIndex.get(ScaKey.of(toFind));
+        if (sca == null || !sca.isSameSca(toFind)) {
+            throw new ScaNotFoundException(notFoundErrorMessage);
+        }
+        return sca;
     }
 
     /**
@@ -187,34 +262,74 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
     public void set(StudentCourseAssociation target, StudentCourseAssociation editedSca) {
         requireAllNonNull(target, editedSca);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new RuntimeException("SCA not found in list");
         }
+        StudentCourseAssociation indexedTarget = scaIndex.get(ScaKey.of(target));
 
-        if (!target.equals(editedSca) && contains(editedSca)) {
-            throw new RuntimeException("Duplicate SCA detected");
+        StudentCourseAssociation clash = scaIndex.get(ScaKey.of(editedSca));
+        if (clash != null && clash != indexedTarget) {
+            throw new DuplicateScaException();
         }
 
+        int index = positionOf(indexedTarget);
+        unindex(indexedTarget);
         internalList.set(index, editedSca);
+        positions.remove(indexedTarget);
+        positions.put(editedSca, index);
+        index(editedSca);
+    }
+
+    /**
+     * Replaces every key of {@code replacements} in the list with its value, as one change of the list.
+     * Either all the replacements are made, or none are.
+     *
+     * @throws ScaNotFoundException if a key is not in the list
+     * @throws DuplicateScaException if the SCA identities of the list would no longer be unique afterwards
+     */
+    public void set(Map<StudentCourseAssociation, StudentCourseAssociation> replacements) {
+        requireNonNull(replacements);
+        Map<StudentCourseAssociation, StudentCourseAssociation> indexedReplacements = new IdentityHashMap<>();
+        for (Map.Entry<StudentCourseAssociation, StudentCourseAssociation> replacement : replacements.entrySet()) {
+            requireAllNonNull(replacement.getKey(), replacement.getValue());
+            if (!contains(replacement.getKey())) {
+                throw new ScaNotFoundException("SCA not found in list: " + replacement.getKey());
+            }
+            indexedReplacements.put(scaIndex.get(ScaKey.of(replacement.getKey())), replacement.getValue());
+        }
+
+        Set<ScaKey> newKeys = new HashSet<>();
+        for (StudentCourseAssociation editedSca : indexedReplacements.values()) {
+            StudentCourseAssociation clash = scaIndex.get(ScaKey.of(editedSca));
+            boolean clashesWithKeptSca = clash != null && !indexedReplacements.containsKey(clash);
+            if (clashesWithKeptSca || !newKeys.add(ScaKey.of(editedSca))) {
+                throw new DuplicateScaException();
+            }
+        }
+
+        replaceIndexed(indexedReplacements);
     }
 
     public void set(StudentCourseAssociationList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code scaList}.
      * {@code scaList} must not contain duplicate scaList.
+     * This is the bulk-load path: uniqueness is checked and the indexes are built in linear time, and listeners
+     * see a single change.
      */
     public void set(List<StudentCourseAssociation> scaList) {
         requireAllNonNull(scaList);
         if (!scaAreUnique(scaList)) {
-            throw new RuntimeException("Duplicate SCA detected.");
+            throw new DuplicateScaException();
         }
 
         internalList.setAll(scaList);
+        rebuildIndexes();
     }
 
     /**
@@ -223,10 +338,15 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public void remove(StudentCourseAssociation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.contains(toRemove)) {
+        if (!contains(toRemove)) {
             throw new RuntimeException("SCA not found in list");
         }
-        internalList.remove(toRemove);
+        StudentCourseAssociation indexed = scaIndex.get(ScaKey.of(toRemove));
+        int index = positionOf(indexed);
+        internalList.remove(index);
+        positions.remove(indexed);
+        updatePositions(index, internalList.size());
+        unindex(indexed);
     }
 
     /**
@@ -234,7 +354,14 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public void remove(Course course) {
         requireNonNull(course);
-        internalList.removeIf(sca -> sca.getCourse().equals(course));
+        List<StudentCourseAssociation> courseScas = new ArrayList<>(lookup(courseIndex, course.courseCode));
+        if (courseScas.isEmpty()) {
+            return;
+        }
+        internalList.batch(() -> internalList.removeIf(sca -> sca.getCourse().equals(course)));
+        courseScas.forEach(positions::remove);
+        updatePositions(0, internalList.size());
+        courseScas.forEach(this::unindex);
     }
 
     /**
@@ -244,6 +371,70 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns copies of the SCAs of the list, which are not affected by later modifications of the list or of its
+     * SCAs. Takes constant time. The copies must not be modified.
+     */
+    public PersistentList<StudentCourseAssociation> asPersistentList() {
+        return internalList.getVersion();
+    }
+
+    /**
+     * Replaces the contents of this list with copies of {@code scas}, a version of the list taken earlier with
+     * {@link #asPersistentList()}. Only the SCAs that differ from the current version are replaced, so the SCAs
+     * modified in place since must have been marked as modified.
+     */
+    public void restore(PersistentList<StudentCourseAssociation> scas) {
+        requireNonNull(scas);
+        // the SCAs of the version must not be modified, so the list gets its own copies
+        Restoration<StudentCourseAssociation> restoration = internalList.restore(scas, StudentCourseAssociation::copy);
+        for (StudentCourseAssociation sca : restoration.removedElements()) {
+            unindex(sca);
+            positions.remove(sca);
+        }
+        restoration.addedElements().forEach(this::index);
+
+        // the SCAs after the replaced ones have only moved if the number of SCAs has changed
+        int fromIndex = restoration.fromIndex();
+        boolean isSameSize = restoration.removedElements().size() == restoration.addedElements().size();
+        updatePositions(fromIndex, isSameSize ? fromIndex + restoration.addedElements().size() : internalList.size());
+    }
+
+    /**
+     * Records that the SCA equivalent to {@code sca} has been modified in place (such as by marking its attendance),
+     * so that later results of {@link #asPersistentList()} have a copy of its new state.
+     *
+     * @throws ScaNotFoundException if there is no equivalent SCA in the list
+     */
+    public void markModified(StudentCourseAssociation sca) {
+        StudentCourseAssociation match = findMatch(sca);
+        internalList.refreeze(positionOf(match));
+        updateCourseVersion(match.getCourse().courseCode);
+    }
+
+    /**
+     * Records that the SCAs of the student with {@code matricNumber} have been modified, such as through an edit of
+     * the person they refer to, so that later results of {@link #asPersistentList()} have copies of their new state.
+     */
+    public void markModified(MatriculationNumber matricNumber) {
+        requireNonNull(matricNumber);
+        for (StudentCourseAssociation sca : lookupByMatric(matricNumber.toLong())) {
+            internalList.refreeze(positionOf(sca));
+        }
+    }
+
+    /**
+     * Records that the SCAs of the course with {@code courseCode} have been modified, such as through an edit of
+     * the course they refer to, so that later results of {@link #asPersistentList()} have copies of their new state.
+     */
+    public void markModified(CourseCode courseCode) {
+        requireNonNull(courseCode);
+        for (StudentCourseAssociation sca : lookup(courseIndex, courseCode)) {
+            internalList.refreeze(positionOf(sca));
+        }
+        updateCourseVersion(courseCode);
+    }
+
     @Override
     public Iterator<StudentCourseAssociation> iterator() {
         return internalList.iterator();
@@ -277,11 +468,10 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      * Returns true if {@code sca} contains only unique sca.
      */
     private boolean scaAreUnique(List<StudentCourseAssociation> sca) {
-        for (int i = 0; i < sca.size() - 1; i++) {
-            for (int j = i + 1; j < sca.size(); j++) {
-                if (sca.get(i).equals(sca.get(j))) {
-                    return false;
-                }
+        Set<ScaKey> seenKeys = new HashSet<>();
+        for (StudentCourseAssociation association : sca) {
+            if (!seenKeys.add(ScaKey.of(association))) {
+                return false;
             }
         }
         return true;
@@ -295,7 +485,7 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public StudentCourseAssociationList filterScasByStudent(Person student) {
         StudentCourseAssociationList filteredScas = new StudentCourseAssociationList();
-        for (StudentCourseAssociation sca : internalList) {
+        for (StudentCourseAssociation sca : lookupByMatric(student.getMatricNumber().toLong())) {
             if (sca.getStudent().equals(student)) {
                 filteredScas.add(sca);
             }
@@ -311,7 +501,7 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public UniqueCourseList filterCoursesByStudent(Person student) {
         UniqueCourseList filteredCourses = new UniqueCourseList();
-        for (StudentCourseAssociation sca : internalList) {
+        for (StudentCourseAssociation sca : lookupByMatric(student.getMatricNumber().toLong())) {
             if (sca.getStudent().equals(student)) {
                 filteredCourses.add(sca.getCourse());
             }
@@ -320,21 +510,48 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
     }
 
     /**
-     * Updates all SCAs that reference the old course to use the new course
+     * Updates all SCAs that reference the old course to use the new course, as one change of the list.
      */
     public void updateCoursesInScas(Course oldCourse, Course newCourse) {
-        for (int i = 0; i < internalList.size(); i++) {
-            StudentCourseAssociation sca = internalList.get(i);
+        Map<StudentCourseAssociation, StudentCourseAssociation> replacements = new IdentityHashMap<>();
+        for (StudentCourseAssociation sca : lookup(courseIndex, oldCourse.courseCode)) {
             if (sca.getCourse().equals(oldCourse)) {
-                StudentCourseAssociation updatedSca = new StudentCourseAssociation(
+                replacements.put(sca, new StudentCourseAssociation(
                         sca.getStudent(),
                         newCourse,
-                        sca.getTutorial(),
-                        sca.getAttendance()
-                );
-                internalList.set(i, updatedSca);
+                        Tutorial.of(sca.getTutorial().getTutorialId(), newCourse),
+                        sca.getAttendance(),
+                        sca.getGradingSystem()
+                ));
             }
         }
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        replaceIndexed(replacements);
+    }
+
+    /**
+     * Returns the grades of every student enrolled in {@code course}, arranged by assessment.
+     * The matrix is built again only if the SCAs of the course or its assessment schema have changed since it was
+     * last returned, so grades modified in place must have been marked with {@link #markModified}.
+     *
+     * @param course the course to retrieve grades from
+     * @return a {@link CourseGradeMatrix} of the grades in the course
+     */
+    public CourseGradeMatrix getGradeMatrix(Course course) {
+        requireNonNull(course);
+        CourseCode courseCode = course.courseCode;
+        long courseVersion = courseVersions.getOrDefault(courseCode, 0L);
+        AssessmentSchema schema = course.getAssessmentSchema();
+        CachedGradeMatrix cached = gradeMatrices.get(courseCode);
+        if (cached == null || !cached.isBuiltFrom(courseVersion, schema)) {
+            cached = new CachedGradeMatrix(courseVersion, schema, schema.getVersion(),
+                    CourseGradeMatrix.of(course, get(course)));
+            gradeMatrices.put(courseCode, cached);
+        }
+        return cached.matrix();
     }
 
     /**
@@ -345,11 +562,182 @@ public class StudentCourseAssociationList implements Iterable<StudentCourseAssoc
      */
     public List<Tutorial> filterTutorialsByStudent(Person student) {
         List<Tutorial> filteredTutorials = new ArrayList<>();
-        for (StudentCourseAssociation sca : internalList) {
+        for (StudentCourseAssociation sca : lookupByMatric(student.getMatricNumber().toLong())) {
             if (sca.getStudent().equals(student)) {
                 filteredTutorials.add(sca.getTutorial());
             }
         }
         return filteredTutorials;
     }
+
+    //=========== Indexes ==================================================================================
+
+    /**
+     * Replaces each SCA of the list that is a key of {@code replacements} (compared by reference) with its value,
+     * as one change of the list. The caller must have checked that the result is free of duplicates.
+     */
+    private void replaceIndexed(Map<StudentCourseAssociation, StudentCourseAssociation> replacements) {
+        replacements.keySet().forEach(this::unindex);
+        internalList.batch(() -> {
+            for (Map.Entry<StudentCourseAssociation, StudentCourseAssociation> replacement : replacements.entrySet()) {
+                int index = positionOf(replacement.getKey());
+                internalList.set(index, replacement.getValue());
+                positions.remove(replacement.getKey());
+                positions.put(replacement.getValue(), index);
+                index(replacement.getValue());
+            }
+        });
+    }
+
+    /**
+     * Adds {@code sca} to every index.
+     */
+    private void index(StudentCourseAssociation sca) {
+        bind(sca);
+        updateCourseVersion(sca.getCourse().courseCode);
+        scaIndex.put(ScaKey.of(sca), sca);
+        matricBucket(sca.getStudent().getMatricNumber().toLong()).add(sca);
+        courseIndex.computeIfAbsent(sca.getCourse().courseCode, k -> new ArrayList<>()).add(sca);
+        tutorialIndex.computeIfAbsent(TutorialKey.of(sca), k -> new ArrayList<>()).add(sca);
+    }
+
+    /**
+     * Removes {@code sca} (by reference) from every index.
+     */
+    private void unindex(StudentCourseAssociation sca) {
+        scaIndex.remove(ScaKey.of(sca), sca);
+        int matricSlot = matricSlots.get(sca.getStudent().getMatricNumber().toLong());
+        if (matricSlot != LongIntHashMap.MISSING) {
+            removeByReference(matricBuckets.get(matricSlot), sca);
+        }
+        removeFromBucket(courseIndex, sca.getCourse().courseCode, sca);
+        removeFromBucket(tutorialIndex, TutorialKey.of(sca), sca);
+        updateCourseVersion(sca.getCourse().courseCode);
+    }
+
+    /**
+     * Discards all indexes and rebuilds them from the current contents of {@code internalList}.
+     */
+    private void rebuildIndexes() {
+        scaIndex.clear();
+        matricSlots.clear();
+        matricBuckets.clear();
+        courseIndex.clear();
+        tutorialIndex.clear();
+        gradeMatrices.clear();
+        internalList.forEach(this::index);
+        positions.clear();
+        updatePositions(0, internalList.size());
+    }
+
+    /**
+     * Changes the version of the course with {@code courseCode}, after its SCAs have changed.
+     */
+    private void updateCourseVersion(CourseCode courseCode) {
+        courseVersions.merge(courseCode, 1L, Long::sum);
+    }
+
+    /**
+     * Records the positions of the SCAs from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) in
+     * {@code internalList}, after the SCAs there have moved.
+     */
+    private void updatePositions(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the position of {@code sca} (by reference) in {@code internalList}.
+     * The backing list is also handed out by {@link #get()}, so if the recorded position is no longer right,
+     * the positions are recorded again.
+     */
+    private int positionOf(StudentCourseAssociation sca) {
+        Integer position = positions.get(sca);
+        if (position == null || position >= internalList.size() || internalList.get(position) != sca) {
+            positions.clear();
+            updatePositions(0, internalList.size());
+            position = positions.get(sca);
+        }
+        assert position != null : "SCA is not in the list";
+        return position;
+    }
+
+    private static <K> void removeFromBucket(Map<K, List<StudentCourseAssociation>> multimap, K key,
+                                             StudentCourseAssociation sca) {
+        List<StudentCourseAssociation> bucket = multimap.get(key);
+        if (bucket == null) {
+            return;
+        }
+        removeByReference(bucket, sca);
+        if (bucket.isEmpty()) {
+            multimap.remove(key);
+        }
+    }
+
+    private static void removeByReference(List<StudentCourseAssociation> bucket, StudentCourseAssociation sca) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == sca) {
+                bucket.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the SCAs of the student with the packed matriculation number {@code packedMatricNumber}.
+     */
+    private List<StudentCourseAssociation> lookupByMatric(long packedMatricNumber) {
+        int slot = matricSlots.get(packedMatricNumber);
+        return slot == LongIntHashMap.MISSING ? Collections.emptyList() : matricBuckets.get(slot);
+    }
+
+    /**
+     * Returns the modifiable bucket of the SCAs of the student with the packed matriculation number
+     * {@code packedMatricNumber}, giving the student a new bucket if there is none.
+     */
+    private List<StudentCourseAssociation> matricBucket(long packedMatricNumber) {
+        int slot = matricSlots.get(packedMatricNumber);
+        if (slot == LongIntHashMap.MISSING) {
+            slot = matricBuckets.size();
+            matricBuckets.add(new ArrayList<>());
+            matricSlots.put(packedMatricNumber, slot);
+        }
+        return matricBuckets.get(slot);
+    }
+
+    private static <K> List<StudentCourseAssociation> lookup(Map<K, List<StudentCourseAssociation>> multimap,
+                                                             K key) {
+        return multimap.getOrDefault(key, Collections.emptyList());
+    }
+
+    /**
+     * Identity of an SCA: matriculation number, course code and tutorial ID.
+     */
+    private record ScaKey(long matricNumber, CourseCode courseCode, String tutorialId) {
+        static ScaKey of(StudentCourseAssociation sca) {
+            return new ScaKey(sca.getStudent().getMatricNumber().toLong(), sca.getCourse().courseCode,
+                    sca.getTutorial().getTutorialId());
+        }
+    }
+
+    /**
+     * Identity of a tutorial group within a course.
+     */
+    private record TutorialKey(CourseCode courseCode, String tutorialId) {
+        static TutorialKey of(StudentCourseAssociation sca) {
+            return new TutorialKey(sca.getCourse().courseCode, sca.getTutorial().getTutorialId());
+        }
+    }
+
+    /**
+     * A grade matrix of a course, with the version of the course and of the assessment schema it was built from.
+     */
+    private record CachedGradeMatrix(long courseVersion, AssessmentSchema schema, long schemaVersion,
+                                     CourseGradeMatrix matrix) {
+        boolean isBuiltFrom(long courseVersion, AssessmentSchema schema) {
+            return this.courseVersion == courseVersion && this.schema == schema
+                    && schemaVersion == schema.getVersion();
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package tahub.contacts.model.studentcourseassociation.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate
+ * {@link tahub.contacts.model.studentcourseassociation.StudentCourseAssociation}s (SCAs are considered duplicates
+ * if they have the same matriculation number, course code and tutorial ID).
+ */
+public class DuplicateScaException extends RuntimeException {
+    public DuplicateScaException() {
+        super("Duplicate SCA detected");
+    }
+}
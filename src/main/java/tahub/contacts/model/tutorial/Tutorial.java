@@ -4,11 +4,13 @@ import static tahub.contacts.commons.util.AppUtil.checkArgument;
 import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import tahub.contacts.model.course.Course;
 
 /**
  * Represents a Tutorial in the system.
+ * Guarantees: immutable; tutorial id is valid as declared in {@link #isValidTutorialId(String)}
  */
 public class Tutorial {
 
@@ -21,8 +23,11 @@ public class Tutorial {
      * tutorial slot naming conventions.
      */
     public static final String TUTORIAL_ID_VALIDATION_REGEX = "^T([1-9][0-9]?|0[1-9])$";
-    private String tutorialId;
-    private Course course;
+    private static final Pattern TUTORIAL_ID_VALIDATION_PATTERN = Pattern.compile(TUTORIAL_ID_VALIDATION_REGEX);
+
+    private final String tutorialId;
+    private final Course course;
+    private final int hashCode;
 
     /**
      * Initializes a new Tutorial with the given tutorial ID and associated Course.
@@ -32,9 +37,23 @@ public class Tutorial {
      */
     public Tutorial(String tutorialId, Course course) {
         requireAllNonNull(tutorialId, course);
-        checkArgument(tutorialId.matches(TUTORIAL_ID_VALIDATION_REGEX), TUTORIAL_ID_MESSAGE_CONSTRAINTS);
+        checkArgument(isValidTutorialId(tutorialId), TUTORIAL_ID_MESSAGE_CONSTRAINTS);
         this.tutorialId = tutorialId;
         this.course = course;
+        this.hashCode = Objects.hash(tutorialId, course);
+    }
+
+    /**
+     * Returns the canonical Tutorial with the given tutorial ID in {@code course}.
+     * Every enrollment in the same tutorial of a course instance shares this Tutorial, and the tutorial ID is only
+     * validated the first time.
+     *
+     * @param tutorialId the ID of the tutorial
+     * @param course the Course associated with the tutorial
+     */
+    public static Tutorial of(String tutorialId, Course course) {
+        requireAllNonNull(tutorialId, course);
+        return course.getTutorial(tutorialId);
     }
 
     /**
@@ -59,7 +78,7 @@ public class Tutorial {
      * Returns true if a given tutorial id is valid.
      */
     public static boolean isValidTutorialId(String test) {
-        return test.matches(TUTORIAL_ID_VALIDATION_REGEX);
+        return TUTORIAL_ID_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -80,8 +99,7 @@ public class Tutorial {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(this.tutorialId, this.course);
+        return hashCode;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package tahub.contacts.model.util;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -62,25 +63,24 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
     public static UniqueCourseList getSampleCourseList() {
         UniqueCourseList sampleCourseList = new UniqueCourseList();
-        sampleCourseList.add(new Course(new CourseCode("CS1010"), new CourseName("Introduction to Computer Science")));
-        sampleCourseList.add(new Course(new CourseCode("MA1521"), new CourseName("Calculus I")));
+        sampleCourseList.add(new Course(CourseCode.of("CS1010"), new CourseName("Introduction to Computer Science")));
+        sampleCourseList.add(new Course(CourseCode.of("MA1521"), new CourseName("Calculus I")));
         return sampleCourseList;
     }
 
     public static StudentCourseAssociationList getSampleScaList() {
         StudentCourseAssociationList sampleScalist = new StudentCourseAssociationList();
-        sampleScalist.add(new StudentCourseAssociation(getSamplePersons()[0],
-                getSampleCourseList().getCourseList().get(0),
-                new Tutorial("T01", getSampleCourseList().getCourseList().get(0))));
-        sampleScalist.add(new StudentCourseAssociation(getSamplePersons()[1],
-                getSampleCourseList().getCourseList().get(1),
-                new Tutorial("T01", getSampleCourseList().getCourseList().get(1))));
+        List<Course> sampleCourses = getSampleCourseList().getCourseList();
+        sampleScalist.add(new StudentCourseAssociation(getSamplePersons()[0], sampleCourses.get(0),
+                Tutorial.of("T01", sampleCourses.get(0))));
+        sampleScalist.add(new StudentCourseAssociation(getSamplePersons()[1], sampleCourses.get(1),
+                Tutorial.of("T01", sampleCourses.get(1))));
         return sampleScalist;
     }
 }
@@ -0,0 +1,457 @@
+package tahub.contacts.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tahub.contacts.commons.exceptions.IllegalValueException;
+import tahub.contacts.model.AddressBook;
+import tahub.contacts.model.ReadOnlyAddressBook;
+import tahub.contacts.model.course.Attendance;
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.course.exceptions.DuplicateCourseException;
+import tahub.contacts.model.grade.AssessmentSchema;
+import tahub.contacts.model.grade.GradingSystem;
+import tahub.contacts.model.person.Person;
+import tahub.contacts.model.person.exceptions.DuplicatePersonException;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+import tahub.contacts.model.studentcourseassociation.exceptions.DuplicateScaException;
+import tahub.contacts.model.tag.Tag;
+import tahub.contacts.model.tutorial.Tutorial;
+
+/**
+ * Reads and writes the binary snapshot format of the data files.
+ * <p>
+ * Every file starts with a header of {@link #MAGIC}, the format version and the kind of data stored, followed by
+ * the number of records and the records themselves. Each record is prefixed by its length in bytes, so that readers
+ * can skip fields appended to a record by later versions of the format. Strings are stored as written by
+ * {@link DataOutputStream#writeUTF(String)}.
+ * <p>
+ * SCA files also start with dictionaries of the course codes and tutorial ids in use, which each SCA refers to by
+ * index, and store attendance as the number of sessions followed by one bit per session. The assessment schema of
+ * a course is appended to its record as the number of assessments followed by the name and weight of each, and the
+ * grades of an SCA are appended to its record as one score per assessment slot of its course, with {@code NaN} for
+ * missing grades. Both were added in version {@link #VERSION_GRADES}, and files of earlier versions are read as
+ * having no assessments or grades.
+ * The course of an SCA's tutorial is taken to be the SCA's course.
+ * <p>
+ * Values read back are validated the same way as the JSON data files, through the {@code JsonAdapted*} classes.
+ */
+final class BinarySnapshotFormat {
+
+    static final int MAGIC = 0x54414842;
+    static final int VERSION = 2;
+    /** First version in which course records hold the assessment schema and SCA records hold the grades. */
+    static final int VERSION_GRADES = 2;
+
+    static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a TAHub binary snapshot.";
+    static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Binary snapshot version %d is newer than the supported version %d.";
+    static final String MESSAGE_WRONG_KIND = "Binary snapshot holds a different kind of data.";
+    static final String MESSAGE_INVALID_INDEX = "Binary snapshot refers to a missing dictionary entry.";
+    static final String MESSAGE_UNKNOWN_STUDENT = "SCA refers to a student that is not in the address book: %s";
+    static final String MESSAGE_UNKNOWN_COURSE = "SCA refers to a course that is not in the course list: %s";
+    static final String MESSAGE_UNKNOWN_ASSESSMENT = "SCA has grades for assessments its course does not have.";
+
+    private static final byte KIND_ADDRESS_BOOK = 1;
+    private static final byte KIND_COURSE_LIST = 2;
+    private static final byte KIND_SCA_LIST = 3;
+
+    private BinarySnapshotFormat() {}
+
+    //=========== Address book ===============================================================================
+
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        try (DataOutputStream out = openForWriting(filePath, KIND_ADDRESS_BOOK)) {
+            RecordWriter records = new RecordWriter(out, addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                DataOutputStream record = records.startRecord();
+                record.writeUTF(person.getMatricNumber().value);
+                record.writeUTF(person.getName().fullName);
+                record.writeUTF(person.getPhone().value);
+                record.writeUTF(person.getEmail().value);
+                record.writeUTF(person.getAddress().value);
+                record.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    record.writeUTF(tag.tagName);
+                }
+                records.endRecord();
+            }
+        }
+    }
+
+    static ReadOnlyAddressBook readAddressBook(Path filePath) throws IOException, IllegalValueException {
+        try (DataInputStream in = openForReading(filePath, KIND_ADDRESS_BOOK)) {
+            int count = in.readInt();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                DataInputStream record = readRecord(in);
+                String matricNumber = record.readUTF();
+                String name = record.readUTF();
+                String phone = record.readUTF();
+                String email = record.readUTF();
+                String address = record.readUTF();
+                int tagCount = record.readInt();
+                List<JsonAdaptedTag> tags = new ArrayList<>();
+                for (int j = 0; j < tagCount; j++) {
+                    tags.add(new JsonAdaptedTag(record.readUTF()));
+                }
+                persons.add(new JsonAdaptedPerson(matricNumber, name, phone, email, address, tags).toModelType());
+            }
+
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            return addressBook;
+        }
+    }
+
+    //=========== Course list ================================================================================
+
+    static void writeCourseList(UniqueCourseList courseList, Path filePath) throws IOException {
+        try (DataOutputStream out = openForWriting(filePath, KIND_COURSE_LIST)) {
+            RecordWriter records = new RecordWriter(out, courseList.getCourseList().size());
+            for (Course course : courseList) {
+                DataOutputStream record = records.startRecord();
+                record.writeUTF(course.courseCode.courseCode);
+                record.writeUTF(course.courseName.courseName);
+                writeAssessmentSchema(course.getAssessmentSchema(), record);
+                records.endRecord();
+            }
+        }
+    }
+
+    static UniqueCourseList readCourseList(Path filePath) throws IOException, IllegalValueException {
+        try (SnapshotInputStream in = openForReading(filePath, KIND_COURSE_LIST)) {
+            int count = in.readInt();
+            List<Course> courses = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                DataInputStream record = readRecord(in);
+                String courseCode = record.readUTF();
+                String courseName = record.readUTF();
+                List<JsonAdaptedAssessment> assessments = readAssessments(record, in.getVersion());
+                courses.add(new JsonAdaptedCourse(courseCode, courseName, assessments).toModelType());
+            }
+
+            UniqueCourseList courseList = new UniqueCourseList();
+            try {
+                courseList.setCourses(courses);
+            } catch (DuplicateCourseException e) {
+                throw new IllegalValueException(JsonSerializableCourseList.MESSAGE_DUPLICATE_PERSON);
+            }
+            return courseList;
+        }
+    }
+
+    //=========== SCA list ===================================================================================
+
+    static void writeScaList(StudentCourseAssociationList scaList, Path filePath) throws IOException {
+        Dictionary courseCodes = new Dictionary();
+        Dictionary tutorialIds = new Dictionary();
+        for (StudentCourseAssociation sca : scaList) {
+            courseCodes.indexOf(sca.getCourse().courseCode.courseCode);
+            tutorialIds.indexOf(sca.getTutorial().getTutorialId());
+        }
+
+        try (DataOutputStream out = openForWriting(filePath, KIND_SCA_LIST)) {
+            courseCodes.writeTo(out);
+            tutorialIds.writeTo(out);
+
+            RecordWriter records = new RecordWriter(out, scaList.get().size());
+            for (StudentCourseAssociation sca : scaList) {
+                DataOutputStream record = records.startRecord();
+                record.writeUTF(sca.getStudent().getMatricNumber().value);
+                record.writeInt(courseCodes.indexOf(sca.getCourse().courseCode.courseCode));
+                record.writeInt(tutorialIds.indexOf(sca.getTutorial().getTutorialId()));
+                writeAttendance(sca.getAttendance(), record);
+                writeGrades(sca.getGradingSystem(), sca.getCourse().getAssessmentSchema(), record);
+                records.endRecord();
+            }
+        }
+    }
+
+    static StudentCourseAssociationList readScaList(Path filePath, ReadOnlyAddressBook addressBook,
+                                                    UniqueCourseList courseList)
+            throws IOException, IllegalValueException {
+        ScaLoadContext context = new ScaLoadContext(addressBook, courseList);
+        try (SnapshotInputStream in = openForReading(filePath, KIND_SCA_LIST)) {
+            List<String> courseCodes = Dictionary.readFrom(in);
+            List<String> tutorialIds = Dictionary.readFrom(in);
+            int count = in.readInt();
+            List<StudentCourseAssociation> scas = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                DataInputStream record = readRecord(in);
+                String matricNumber = record.readUTF();
+                String courseCode = lookUp(courseCodes, record.readInt());
+                String tutorialId = lookUp(tutorialIds, record.readInt());
+                Attendance attendance = readAttendance(record);
+
+                Person student = context.getPerson(matricNumber);
+                if (student == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, matricNumber));
+                }
+                Course course = context.getCourse(courseCode);
+                if (course == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_COURSE, courseCode));
+                }
+                if (!Tutorial.isValidTutorialId(tutorialId)) {
+                    throw new IllegalValueException(String.format(Tutorial.TUTORIAL_ID_MESSAGE_CONSTRAINTS,
+                            Tutorial.class.getSimpleName()));
+                }
+                GradingSystem gradingSystem = readGrades(record, course.getAssessmentSchema(), in.getVersion());
+                scas.add(new StudentCourseAssociation(student, course, Tutorial.of(tutorialId, course), attendance,
+                        gradingSystem));
+            }
+
+            StudentCourseAssociationList scaList = new StudentCourseAssociationList();
+            try {
+                scaList.set(scas);
+            } catch (DuplicateScaException e) {
+                throw new IllegalValueException(JsonSerializableStudentCourseAssociationList.MESSAGE_DUPLICATE_SCA);
+            }
+            return scaList;
+        }
+    }
+
+    private static void writeAttendance(Attendance attendance, DataOutputStream out) throws IOException {
+        int sessionCount = attendance.getAttendanceTotalCount();
+        out.writeInt(sessionCount);
+        byte[] bits = new byte[(sessionCount + 7) / 8];
+        for (int i = 0; i < sessionCount; i++) {
+            if (attendance.isSessionAttended(i)) {
+                bits[i / 8] |= (byte) (1 << (i % 8));
+            }
+        }
+        out.write(bits);
+    }
+
+    private static Attendance readAttendance(DataInputStream in) throws IOException, IllegalValueException {
+        int sessionCount = in.readInt();
+        // computed as a long, since rounding a count near Integer.MAX_VALUE up would overflow an int
+        long byteCount = (sessionCount + 7L) / 8;
+        if (sessionCount < 0 || byteCount > in.available()) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        byte[] bits = new byte[(int) byteCount];
+        in.readFully(bits);
+
+        Attendance attendance = new Attendance();
+        for (int i = 0; i < sessionCount; i++) {
+            if ((bits[i / 8] & (1 << (i % 8))) != 0) {
+                attendance.addAttendedLesson();
+            } else {
+                attendance.addAbsentLesson();
+            }
+        }
+        return attendance;
+    }
+
+    private static void writeAssessmentSchema(AssessmentSchema schema, DataOutputStream out) throws IOException {
+        List<String> names = schema.getAssessmentNames();
+        out.writeInt(names.size());
+        for (int slot = 0; slot < names.size(); slot++) {
+            out.writeUTF(names.get(slot));
+            out.writeDouble(schema.getWeight(slot));
+        }
+    }
+
+    private static List<JsonAdaptedAssessment> readAssessments(DataInputStream record, int version)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedAssessment> assessments = new ArrayList<>();
+        if (version < VERSION_GRADES) {
+            return assessments;
+        }
+        int assessmentCount = record.readInt();
+        if (assessmentCount < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        for (int i = 0; i < assessmentCount; i++) {
+            assessments.add(new JsonAdaptedAssessment(record.readUTF(), record.readDouble()));
+        }
+        return assessments;
+    }
+
+    /**
+     * Writes the scores of {@code gradingSystem} in the slot order of {@code courseSchema}.
+     */
+    private static void writeGrades(GradingSystem gradingSystem, AssessmentSchema courseSchema,
+                                    DataOutputStream out) throws IOException {
+        int slotCount = courseSchema.size();
+        out.writeInt(slotCount);
+        boolean isSharedSchema = gradingSystem.getSchema() == courseSchema;
+        for (int slot = 0; slot < slotCount; slot++) {
+            double score = isSharedSchema
+                    ? gradingSystem.getScore(slot)
+                    : gradingSystem.getGrade(courseSchema.getName(slot));
+            out.writeDouble(score < 0 ? Double.NaN : score);
+        }
+    }
+
+    private static GradingSystem readGrades(DataInputStream record, AssessmentSchema courseSchema, int version)
+            throws IOException, IllegalValueException {
+        GradingSystem gradingSystem = new GradingSystem(courseSchema);
+        if (version < VERSION_GRADES) {
+            return gradingSystem;
+        }
+        int slotCount = record.readInt();
+        if (slotCount < 0 || slotCount > courseSchema.size()) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_ASSESSMENT);
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            double score = record.readDouble();
+            if (Double.isNaN(score)) {
+                continue;
+            }
+            if (score < 0 || score > 100) {
+                throw new IllegalValueException(String.format(
+                        JsonAdaptedStudentCourseAssociation.MESSAGE_INVALID_GRADE, courseSchema.getName(slot)));
+            }
+            gradingSystem.addGrade(courseSchema.getName(slot), score);
+        }
+        return gradingSystem;
+    }
+
+    private static String lookUp(List<String> dictionary, int index) throws IllegalValueException {
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return dictionary.get(index);
+    }
+
+    //=========== Framing ====================================================================================
+
+    private static DataOutputStream openForWriting(Path filePath, byte kind) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeByte(kind);
+        return out;
+    }
+
+    private static SnapshotInputStream openForReading(Path filePath, byte kind)
+            throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = in.readInt();
+            if (version < 1) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            if (version > VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, VERSION));
+            }
+            if (in.readByte() != kind) {
+                throw new IllegalValueException(MESSAGE_WRONG_KIND);
+            }
+            return new SnapshotInputStream(in, version);
+        } catch (IOException | IllegalValueException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private static DataInputStream readRecord(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        // readNBytes allocates as the bytes arrive, so a corrupt length cannot allocate more than the file holds
+        byte[] record = in.readNBytes(length);
+        if (record.length < length) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        return new DataInputStream(new ByteArrayInputStream(record));
+    }
+
+    /**
+     * A stream positioned after the header of a snapshot, which remembers the format version the snapshot has.
+     */
+    private static class SnapshotInputStream extends DataInputStream {
+        private final int version;
+
+        SnapshotInputStream(DataInputStream in, int version) {
+            super(in);
+            this.version = version;
+        }
+
+        int getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * Writes the record count and then length-prefixed records to a stream, reusing one buffer for every record.
+     */
+    private static class RecordWriter {
+        private final DataOutputStream out;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final DataOutputStream record = new DataOutputStream(buffer);
+
+        RecordWriter(DataOutputStream out, int count) throws IOException {
+            this.out = out;
+            out.writeInt(count);
+        }
+
+        DataOutputStream startRecord() {
+            buffer.reset();
+            return record;
+        }
+
+        void endRecord() throws IOException {
+            record.flush();
+            out.writeInt(buffer.size());
+            buffer.writeTo(out);
+        }
+    }
+
+    /**
+     * Assigns each distinct string an index in the order the strings are first seen.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> entries = new ArrayList<>();
+
+        int indexOf(String entry) {
+            return indexes.computeIfAbsent(entry, unused -> {
+                entries.add(entry);
+                return entries.size() - 1;
+            });
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(entries.size());
+            for (String entry : entries) {
+                out.writeUTF(entry);
+            }
+        }
+
+        static List<String> readFrom(DataInputStream in) throws IOException, IllegalValueException {
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            List<String> entries = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                entries.add(in.readUTF());
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package tahub.contacts.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.commons.exceptions.DataLoadingException;
+import tahub.contacts.commons.exceptions.IllegalValueException;
+import tahub.contacts.commons.util.FileUtil;
+import tahub.contacts.model.ReadOnlyAddressBook;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+
+/**
+ * A class to access SCA list data stored as a binary snapshot on the hard disk.
+ *
+ * @see BinarySnapshotFormat
+ */
+public class BinaryStudentCourseAssociationListStorage implements StudentCourseAssociationListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStudentCourseAssociationListStorage.class);
+
+    private Path filePath;
+
+    public BinaryStudentCourseAssociationListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getScaListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<StudentCourseAssociationList> readScaList(Path filePath, ReadOnlyAddressBook addressBook,
+                                                              UniqueCourseList courseList) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(addressBook);
+        requireNonNull(courseList);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinarySnapshotFormat.readScaList(filePath, addressBook, courseList));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveScaList(StudentCourseAssociationList scaList) throws IOException {
+        saveScaList(scaList, filePath);
+    }
+
+    @Override
+    public void saveScaList(StudentCourseAssociationList scaList, Path filePath) throws IOException {
+        requireNonNull(scaList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinarySnapshotFormat.writeScaList(scaList, filePath);
+    }
+}
@@ -0,0 +1,74 @@
+package tahub.contacts.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.commons.exceptions.DataLoadingException;
+import tahub.contacts.commons.exceptions.IllegalValueException;
+import tahub.contacts.commons.util.FileUtil;
+import tahub.contacts.model.course.UniqueCourseList;
+
+/**
+ * A class to access Course data stored as a binary snapshot on the hard disk.
+ *
+ * @see BinarySnapshotFormat
+ */
+public class BinaryUniqueCourseListStorage implements CourseListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryUniqueCourseListStorage.class);
+
+    private Path filePath;
+
+    public BinaryUniqueCourseListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCourseListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<UniqueCourseList> readCourseList() throws DataLoadingException {
+        return readCourseList(filePath);
+    }
+
+    @Override
+    public Optional<UniqueCourseList> readCourseList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinarySnapshotFormat.readCourseList(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveCourseList(UniqueCourseList courseList) throws IOException {
+        saveCourseList(courseList, filePath);
+    }
+
+    @Override
+    public void saveCourseList(UniqueCourseList courseList, Path filePath) throws IOException {
+        requireNonNull(courseList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinarySnapshotFormat.writeCourseList(courseList, filePath);
+    }
+}
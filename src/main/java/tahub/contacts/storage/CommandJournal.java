@@ -0,0 +1,89 @@
+package tahub.contacts.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.commons.exceptions.DataLoadingException;
+import tahub.contacts.commons.util.FileUtil;
+
+/**
+ * An append-only journal of the commands that modified the data since the data files were last saved.
+ * Each entry is the text of one command, stored as one line of the journal file.
+ */
+public class CommandJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandJournal.class);
+
+    private final Path filePath;
+
+    public CommandJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the entries of the journal, oldest first, or an empty list if the journal file does not exist.
+     *
+     * @throws DataLoadingException if reading the journal file failed.
+     */
+    public List<String> readEntries() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        try {
+            List<String> entries = new ArrayList<>();
+            for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    entries.add(line);
+                }
+            }
+            return entries;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the end of the journal, creating the journal file if it is missing.
+     * Entries must not contain line breaks.
+     */
+    public void append(List<String> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            for (String entry : entries) {
+                assert !entry.contains("\n") && !entry.contains("\r") : "Journal entries must fit on one line";
+                writer.write(entry);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the journal.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+}
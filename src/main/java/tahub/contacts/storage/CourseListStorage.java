@@ -11,6 +11,8 @@ import tahub.contacts.model.course.UniqueCourseList;
  * Interface of the CourseListStorage component
  */
 public interface CourseListStorage {
+    Path getCourseListFilePath();
+
     Optional<UniqueCourseList> readCourseList() throws DataLoadingException;
 
     Optional<UniqueCourseList> readCourseList(Path filePath) throws DataLoadingException;
@@ -0,0 +1,52 @@
+package tahub.contacts.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tahub.contacts.commons.exceptions.IllegalValueException;
+import tahub.contacts.model.grade.AssessmentSchema;
+
+/**
+ * Jackson-friendly version of an assessment in an {@link AssessmentSchema}.
+ */
+class JsonAdaptedAssessment {
+
+    private final String name;
+    private final double weight;
+
+    /**
+     * Constructs a {@code JsonAdaptedAssessment} with the given assessment details.
+     */
+    @JsonCreator
+    public JsonAdaptedAssessment(@JsonProperty("name") String name, @JsonProperty("weight") double weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+
+    /**
+     * Converts the assessment in {@code slot} of {@code source} into this class for Jackson use.
+     */
+    public JsonAdaptedAssessment(AssessmentSchema source, int slot) {
+        this.name = source.getName(slot);
+        this.weight = source.getWeight(slot);
+    }
+
+    /**
+     * Adds this assessment to {@code schema}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted assessment,
+     *      or if {@code schema} already has an assessment with the same name.
+     */
+    public void addTo(AssessmentSchema schema) throws IllegalValueException {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalValueException("Assessment name cannot be null or empty.");
+        }
+        if (weight < 0 || weight > 1) {
+            throw new IllegalValueException("Weight must be between 0 and 1.");
+        }
+        if (schema.indexOf(name) >= 0) {
+            throw new IllegalValueException("Course has more than one assessment named " + name + ".");
+        }
+        schema.setWeight(name, weight);
+    }
+}
@@ -29,6 +29,6 @@ public class JsonAdaptedAttendanceSession {
      * Converts this Jackson-friendly adapted attendance object into the model's {@link AttendanceSession} object.
      */
     public AttendanceSession toModelType() {
-        return new AttendanceSession(isSessionAttended);
+        return AttendanceSession.of(isSessionAttended);
     }
 }
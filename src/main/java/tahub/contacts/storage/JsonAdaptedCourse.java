@@ -1,12 +1,17 @@
 package tahub.contacts.storage;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tahub.contacts.commons.exceptions.IllegalValueException;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
 import tahub.contacts.model.course.CourseName;
+import tahub.contacts.model.grade.AssessmentSchema;
 
 /**
  * Jackson-friendly version of {@link Course}.
@@ -14,15 +19,28 @@ import tahub.contacts.model.course.CourseName;
 public class JsonAdaptedCourse {
     private final String courseCode;
     private final String courseName;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedAssessment> assessments = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedCourse} with the given course details.
      */
     @JsonCreator
     public JsonAdaptedCourse(@JsonProperty("courseCode") String courseCode,
-                             @JsonProperty("courseName") String courseName) {
+                             @JsonProperty("courseName") String courseName,
+                             @JsonProperty("assessments") List<JsonAdaptedAssessment> assessments) {
         this.courseCode = courseCode;
         this.courseName = courseName;
+        if (assessments != null) {
+            this.assessments.addAll(assessments);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedCourse} with the given course details and no assessments.
+     */
+    public JsonAdaptedCourse(String courseCode, String courseName) {
+        this(courseCode, courseName, null);
     }
 
     /**
@@ -31,6 +49,10 @@ public class JsonAdaptedCourse {
     public JsonAdaptedCourse(Course source) {
         courseCode = source.courseCode.courseCode;
         courseName = source.courseName.courseName;
+        AssessmentSchema schema = source.getAssessmentSchema();
+        for (int slot = 0; slot < schema.size(); slot++) {
+            assessments.add(new JsonAdaptedAssessment(schema, slot));
+        }
     }
 
     /**
@@ -45,6 +67,10 @@ public class JsonAdaptedCourse {
         if (!CourseName.isValidCourseName(courseName)) {
             throw new IllegalValueException(CourseName.MESSAGE_CONSTRAINTS);
         }
-        return new Course(new CourseCode(courseCode), new CourseName(courseName));
+        AssessmentSchema schema = new AssessmentSchema();
+        for (JsonAdaptedAssessment assessment : assessments) {
+            assessment.addTo(schema);
+        }
+        return new Course(CourseCode.of(courseCode), new CourseName(courseName), schema);
     }
 }
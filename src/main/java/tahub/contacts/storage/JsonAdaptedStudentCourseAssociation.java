@@ -1,5 +1,8 @@
 package tahub.contacts.storage;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -9,6 +12,9 @@ import tahub.contacts.model.course.Attendance;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
 import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.grade.AssessmentSchema;
+import tahub.contacts.model.grade.Grade;
+import tahub.contacts.model.grade.GradingSystem;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
 import tahub.contacts.model.tutorial.Tutorial;
@@ -20,10 +26,12 @@ import tahub.contacts.model.tutorial.Tutorial;
 class JsonAdaptedStudentCourseAssociation {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "StudentCourseAssociation's %s field is missing!";
+    public static final String MESSAGE_INVALID_GRADE = "StudentCourseAssociation has an invalid grade for %s.";
     private final String matricNumber;
     private final String courseCode;
     private final JsonAdaptedTutorial tutorial;
     private final JsonAdaptedAttendance attendance;
+    private final Map<String, Double> grades = new LinkedHashMap<>();
 
     /**
      * Constructs a {@code JsonAdaptedStudentCourseAssociation} with the given
@@ -34,11 +42,24 @@ class JsonAdaptedStudentCourseAssociation {
             @JsonProperty("matricNumber") String matricNumber,
             @JsonProperty("courseCode") String courseCode,
             @JsonProperty("tutorial") JsonAdaptedTutorial tutorial,
-            @JsonProperty("attendance") JsonAdaptedAttendance attendance) {
+            @JsonProperty("attendance") JsonAdaptedAttendance attendance,
+            @JsonProperty("grades") Map<String, Double> grades) {
         this.matricNumber = matricNumber;
         this.courseCode = courseCode;
         this.tutorial = tutorial;
         this.attendance = attendance;
+        if (grades != null) {
+            this.grades.putAll(grades);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedStudentCourseAssociation} with the given
+     * Student Course Association details and no grades.
+     */
+    public JsonAdaptedStudentCourseAssociation(String matricNumber, String courseCode, JsonAdaptedTutorial tutorial,
+                                               JsonAdaptedAttendance attendance) {
+        this(matricNumber, courseCode, tutorial, attendance, null);
     }
 
     /**
@@ -50,6 +71,9 @@ class JsonAdaptedStudentCourseAssociation {
         this.courseCode = String.valueOf(source.getCourse().courseCode);
         this.tutorial = new JsonAdaptedTutorial(source.getTutorial());
         this.attendance = new JsonAdaptedAttendance(source.getAttendance());
+        for (Grade grade : source.getGradingSystem().getGrades()) {
+            grades.put(grade.getAssessmentName(), grade.getScorePercentage());
+        }
     }
 
     /**
@@ -63,31 +87,58 @@ class JsonAdaptedStudentCourseAssociation {
     public StudentCourseAssociation toModelType(ReadOnlyAddressBook addressBook,
                                                 UniqueCourseList courseList) throws IllegalValueException {
         final Person student = addressBook.getPersonByMatricNumber(matricNumber);
+        requireValidStudent(student);
 
-        // Checks if the student is valid
-        if (student == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                                                          JsonAdaptedPerson.class.getSimpleName()));
+        if (!CourseCode.isValidCourseCode(courseCode)) {
+            throw new IllegalValueException(CourseCode.MESSAGE_CONSTRAINTS);
         }
+        final Course course = courseList.getCourseWithCourseCode(CourseCode.of(courseCode));
+        requireValidCourse(course);
 
-        if (!CourseCode.isValidCourseCode(courseCode)) {
+        return toModelType(student, course);
+    }
+
+    /**
+     * Similar to {@link #toModelType(ReadOnlyAddressBook, UniqueCourseList)}, but resolves the student and course
+     * through the lookup tables of {@code context}, which are shared by all SCAs of the list being loaded.
+     */
+    StudentCourseAssociation toModelType(ScaLoadContext context) throws IllegalValueException {
+        final Person student = context.getPerson(matricNumber);
+        requireValidStudent(student);
+
+        final Course course = context.getCourse(courseCode);
+        if (course == null && (courseCode == null || !CourseCode.isValidCourseCode(courseCode))) {
             throw new IllegalValueException(CourseCode.MESSAGE_CONSTRAINTS);
         }
+        requireValidCourse(course);
 
-        final Course course = courseList.getCourseWithCourseCode(new CourseCode(courseCode));
+        return toModelType(student, course);
+    }
 
-        // Checks if the course is valid
+    private static void requireValidStudent(Person student) throws IllegalValueException {
+        if (student == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                                                          JsonAdaptedPerson.class.getSimpleName()));
+        }
+    }
+
+    private static void requireValidCourse(Course course) throws IllegalValueException {
         if (course == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                                                           JsonAdaptedCourse.class.getSimpleName()));
         }
+    }
 
+    /**
+     * Builds the SCA from its already resolved {@code student} and {@code course}, validating the remaining fields.
+     */
+    private StudentCourseAssociation toModelType(Person student, Course course) throws IllegalValueException {
         // Checks if the tutorial is valid
         if (this.tutorial == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                                                           JsonAdaptedTutorial.class.getSimpleName()));
         }
-        final Tutorial tutorialModel = this.tutorial.toModelType();
+        final Tutorial tutorialModel = this.tutorial.toModelType(course);
 
         // Checks if the attendance is valid
         if (this.attendance == null) {
@@ -96,6 +147,30 @@ class JsonAdaptedStudentCourseAssociation {
         }
         final Attendance attendanceModel = this.attendance.toModelType();
 
-        return new StudentCourseAssociation(student, course, tutorialModel, attendanceModel);
+        // Grades are optional, as SCAs saved before grades were recorded have none
+        final GradingSystem gradingSystemModel = toGradingSystem(course.getAssessmentSchema(), grades);
+
+        return new StudentCourseAssociation(student, course, tutorialModel, attendanceModel, gradingSystemModel);
+    }
+
+    /**
+     * Builds the grading system holding {@code grades}, which maps assessment names to scores, with the
+     * assessments defined by {@code schema}. Assessments missing from {@code schema} are added to it.
+     *
+     * @throws IllegalValueException if an assessment name or score is invalid.
+     */
+    static GradingSystem toGradingSystem(AssessmentSchema schema, Map<String, Double> grades)
+            throws IllegalValueException {
+        GradingSystem gradingSystem = new GradingSystem(schema);
+        for (Map.Entry<String, Double> grade : grades.entrySet()) {
+            String assessmentName = grade.getKey();
+            Double score = grade.getValue();
+            if (assessmentName == null || assessmentName.trim().isEmpty() || score == null
+                    || score < 0 || score > 100) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_GRADE, assessmentName));
+            }
+            gradingSystem.addGrade(assessmentName, score);
+        }
+        return gradingSystem;
     }
 }
@@ -36,7 +36,9 @@ class JsonAdaptedTutorial {
      */
     public JsonAdaptedTutorial(Tutorial source) {
         tutorialId = source.getTutorialId();
-        course = new JsonAdaptedCourse(source.getCourse());
+        // the assessments are stored with the course list, not with every tutorial
+        course = new JsonAdaptedCourse(source.getCourse().courseCode.courseCode,
+                source.getCourse().courseName.courseName);
     }
 
     public String getTutorialId() {
@@ -74,4 +76,24 @@ class JsonAdaptedTutorial {
 
         return new Tutorial(modelTutorialId, courseModel);
     }
+
+    /**
+     * Converts this Jackson-friendly adapted Tutorial object into the canonical model Tutorial of {@code course},
+     * which has already been resolved by the caller, instead of building a new Course from the stored one.
+     *
+     * @param course the Course the tutorial belongs to
+     * @return the model Tutorial object with this tutorial ID in {@code course}
+     * @throws IllegalValueException if the tutorial ID does not fulfill constraints
+     */
+    public Tutorial toModelType(Course course) throws IllegalValueException {
+        if (tutorialId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Tutorial.class.getSimpleName()));
+        }
+        if (!Tutorial.isValidTutorialId(tutorialId)) {
+            throw new IllegalValueException(String.format(Tutorial.TUTORIAL_ID_MESSAGE_CONSTRAINTS,
+                    Tutorial.class.getSimpleName()));
+        }
+        return Tutorial.of(tutorialId, course);
+    }
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import tahub.contacts.commons.exceptions.IllegalValueException;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.course.exceptions.DuplicateCourseException;
 
 /**
  * An Immutable UniqueCourseList that is serializable to JSON format.
@@ -45,13 +46,16 @@ class JsonSerializableCourseList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public UniqueCourseList toModelType() throws IllegalValueException {
-        UniqueCourseList courseList = new UniqueCourseList();
+        List<Course> courseModels = new ArrayList<>(courses.size());
         for (JsonAdaptedCourse jsonAdaptedCourse : courses) {
-            Course course = jsonAdaptedCourse.toModelType();
-            if (courseList.hasCourse(course)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            courseList.addCourse(course);
+            courseModels.add(jsonAdaptedCourse.toModelType());
+        }
+
+        UniqueCourseList courseList = new UniqueCourseList();
+        try {
+            courseList.setCourses(courseModels);
+        } catch (DuplicateCourseException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return courseList;
     }
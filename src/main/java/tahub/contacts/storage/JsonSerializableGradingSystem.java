@@ -2,6 +2,7 @@ package tahub.contacts.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -35,11 +36,11 @@ class JsonSerializableGradingSystem {
         if (source == null) {
             return;
         }
+        Map<String, Double> weights = source.getAllWeights();
         grades.addAll(source.getAllGrades().entrySet().stream()
                               .map(entry -> new JsonAdaptedGrade(
                                       new Grade(entry.getKey(), entry.getValue(),
-                                                source.getAllWeights().getOrDefault(entry.getKey(),
-                                                                                    1.0))))
+                                                weights.getOrDefault(entry.getKey(), 1.0))))
                               .collect(Collectors.toList()));
     }
 
@@ -13,6 +13,7 @@ import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.course.UniqueCourseList;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+import tahub.contacts.model.studentcourseassociation.exceptions.DuplicateScaException;
 
 /**
  * An Immutable StudentCourseAssociationList that is serializable to JSON format.
@@ -44,18 +45,24 @@ class JsonSerializableStudentCourseAssociationList {
 
     /**
      * Converts this SCA list into the model's {@code StudentCourseAssociationList} object.
+     * The persons and courses are indexed once up front, and duplicates are detected in a single hash pass,
+     * so loading takes time linear in the number of SCAs.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudentCourseAssociationList toModelType(ReadOnlyAddressBook addressBook,
                                                     UniqueCourseList courseList) throws IllegalValueException {
-        StudentCourseAssociationList scaList = new StudentCourseAssociationList();
+        ScaLoadContext context = new ScaLoadContext(addressBook, courseList);
+        List<StudentCourseAssociation> scaModels = new ArrayList<>(scas.size());
         for (JsonAdaptedStudentCourseAssociation jsonAdaptedSca : scas) {
-            StudentCourseAssociation sca = jsonAdaptedSca.toModelType(addressBook, courseList);
-            if (scaList.contains(sca)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SCA);
-            }
-            scaList.add(sca);
+            scaModels.add(jsonAdaptedSca.toModelType(context));
+        }
+
+        StudentCourseAssociationList scaList = new StudentCourseAssociationList();
+        try {
+            scaList.set(scaModels);
+        } catch (DuplicateScaException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SCA);
         }
         return scaList;
     }
@@ -19,17 +19,29 @@ import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationLis
 /**
  * A class to access SCA list data stored as a json file on the hard disk.
  */
-public class JsonStudentCourseAssociationListStorage {
+public class JsonStudentCourseAssociationListStorage implements StudentCourseAssociationListStorage {
 
     private static final Logger logger =
             LogsCenter.getLogger(JsonStudentCourseAssociationListStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonStudentCourseAssociationListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param isCompact if true, data is saved as compact JSON without indentation or line breaks.
+     */
+    public JsonStudentCourseAssociationListStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
+    @Override
     public Path getScaListFilePath() {
         return filePath;
     }
@@ -39,6 +51,7 @@ public class JsonStudentCourseAssociationListStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
+    @Override
     public Optional<StudentCourseAssociationList> readScaList(Path filePath, ReadOnlyAddressBook addressBook,
                                                               UniqueCourseList courseList) throws DataLoadingException {
         requireNonNull(filePath);
@@ -59,6 +72,7 @@ public class JsonStudentCourseAssociationListStorage {
         }
     }
 
+    @Override
     public void saveScaList(StudentCourseAssociationList scaList) throws IOException {
         saveScaList(scaList, filePath);
     }
@@ -68,12 +82,13 @@ public class JsonStudentCourseAssociationListStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
+    @Override
     public void saveScaList(StudentCourseAssociationList scaList, Path filePath) throws IOException {
         requireNonNull(scaList);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentCourseAssociationList(scaList), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableStudentCourseAssociationList(scaList), filePath, isCompact);
     }
 
 }
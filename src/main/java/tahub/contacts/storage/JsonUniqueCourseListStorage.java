@@ -17,20 +17,33 @@ import tahub.contacts.model.course.UniqueCourseList;
 /**
  * A class to access Course data stored as a json file on the hard disk.
  */
-public class JsonUniqueCourseListStorage {
+public class JsonUniqueCourseListStorage implements CourseListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUniqueCourseListStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonUniqueCourseListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param isCompact if true, data is saved as compact JSON without indentation or line breaks.
+     */
+    public JsonUniqueCourseListStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
+    @Override
     public Path getCourseListFilePath() {
         return filePath;
     }
 
+    @Override
     public Optional<UniqueCourseList> readCourseList() throws DataLoadingException {
         return readCourseList(filePath);
     }
@@ -41,6 +54,7 @@ public class JsonUniqueCourseListStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
+    @Override
     public Optional<UniqueCourseList> readCourseList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
@@ -58,6 +72,7 @@ public class JsonUniqueCourseListStorage {
         }
     }
 
+    @Override
     public void saveCourseList(UniqueCourseList addressBook) throws IOException {
         saveCourseList(addressBook, filePath);
     }
@@ -67,12 +82,13 @@ public class JsonUniqueCourseListStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
+    @Override
     public void saveCourseList(UniqueCourseList addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCourseList(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableCourseList(addressBook), filePath, isCompact);
     }
 
 }
@@ -0,0 +1,60 @@
+package tahub.contacts.storage;
+
+import static tahub.contacts.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tahub.contacts.commons.util.LongIntHashMap;
+import tahub.contacts.model.ReadOnlyAddressBook;
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.person.MatriculationNumber;
+import tahub.contacts.model.person.Person;
+
+/**
+ * Lookup tables shared by every {@link JsonAdaptedStudentCourseAssociation} while a whole SCA list is being loaded.
+ * The persons and courses are indexed once, so resolving the student and course of each SCA is a hash lookup instead
+ * of a scan of the address book and course list. Persons are indexed by packed matriculation number, so looking up
+ * a student does not hash the string stored in the JSON file.
+ */
+class ScaLoadContext {
+
+    private final List<Person> persons;
+    private final LongIntHashMap personPositions = new LongIntHashMap();
+    private final Map<String, Course> coursesByCourseCode = new HashMap<>();
+
+    /**
+     * Indexes the persons in {@code addressBook} and the courses in {@code courseList}.
+     */
+    ScaLoadContext(ReadOnlyAddressBook addressBook, UniqueCourseList courseList) {
+        requireAllNonNull(addressBook, courseList);
+        persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            personPositions.put(persons.get(i).getMatricNumber().toLong(), i);
+        }
+        for (Course course : courseList) {
+            coursesByCourseCode.put(course.courseCode.courseCode, course);
+        }
+    }
+
+    /**
+     * Returns the person with the given matriculation number, or null if there is none.
+     */
+    Person getPerson(String matricNumber) {
+        if (matricNumber == null) {
+            return null;
+        }
+        long packedMatricNumber = MatriculationNumber.pack(matricNumber);
+        int position = packedMatricNumber < 0 ? LongIntHashMap.MISSING : personPositions.get(packedMatricNumber);
+        return position == LongIntHashMap.MISSING ? null : persons.get(position);
+    }
+
+    /**
+     * Returns the course with the given course code, or null if there is none.
+     */
+    Course getCourse(String courseCode) {
+        return coursesByCourseCode.get(courseCode);
+    }
+}
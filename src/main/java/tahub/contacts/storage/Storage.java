@@ -24,6 +24,7 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CourseLis
     @Override
     Path getAddressBookFilePath();
 
+    @Override
     Path getCourseListFilePath();
 
     @Override
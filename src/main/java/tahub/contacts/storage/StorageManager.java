@@ -1,7 +1,9 @@
 package tahub.contacts.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -21,16 +23,16 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
-    private JsonUniqueCourseListStorage courseListStorage;
-    private JsonStudentCourseAssociationListStorage scaListStorage;
+    private CourseListStorage courseListStorage;
+    private StudentCourseAssociationListStorage scaListStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage,
                           UserPrefsStorage userPrefsStorage,
-                          JsonUniqueCourseListStorage courseListStorage,
-                          JsonStudentCourseAssociationListStorage scaListStorage) {
+                          CourseListStorage courseListStorage,
+                          StudentCourseAssociationListStorage scaListStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.courseListStorage = courseListStorage;
@@ -118,11 +120,6 @@ public class StorageManager implements Storage {
         return scaListStorage.getScaListFilePath();
     }
 
-    @Override
-    public Optional<StudentCourseAssociationList> readScaList() throws DataLoadingException {
-        throw new UnsupportedOperationException();
-    }
-
     @Override
     public Optional<StudentCourseAssociationList> readScaList(
             Path filePath,
@@ -142,4 +139,53 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         scaListStorage.saveScaList(scaList, filePath);
     }
+
+    //===== conversion between storage formats =====
+
+    /**
+     * Reads all the data in {@code source} and saves it to this storage's data files.
+     * Data files that {@code source} does not have are left untouched.
+     *
+     * @throws DataLoadingException if reading from {@code source} failed.
+     * @throws IOException if writing to this storage failed.
+     */
+    public void importFrom(Storage source) throws DataLoadingException, IOException {
+        logger.info("Importing data from " + source.getAddressBookFilePath() + ", " + source.getCourseListFilePath()
+                + " and " + source.getScaListFilePath());
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        Optional<UniqueCourseList> courseList = source.readCourseList();
+        if (addressBook.isPresent()) {
+            saveAddressBook(addressBook.get());
+        }
+        if (courseList.isPresent()) {
+            saveCourseList(courseList.get());
+        }
+        if (addressBook.isPresent() && courseList.isPresent()) {
+            Optional<StudentCourseAssociationList> scaList =
+                    source.readScaList(source.getScaListFilePath(), addressBook.get(), courseList.get());
+            if (scaList.isPresent()) {
+                saveScaList(scaList.get());
+            }
+        }
+    }
+
+    /**
+     * Returns when the most recently modified of this storage's data files was last modified,
+     * or an empty {@code Optional} if none of them exist.
+     *
+     * @throws IOException if the modification time of an existing data file could not be read.
+     */
+    public Optional<FileTime> getLastModifiedTime() throws IOException {
+        FileTime lastModifiedTime = null;
+        for (Path filePath : new Path[] {getAddressBookFilePath(), getCourseListFilePath(), getScaListFilePath()}) {
+            if (!Files.exists(filePath)) {
+                continue;
+            }
+            FileTime fileTime = Files.getLastModifiedTime(filePath);
+            if (lastModifiedTime == null || fileTime.compareTo(lastModifiedTime) > 0) {
+                lastModifiedTime = fileTime;
+            }
+        }
+        return Optional.ofNullable(lastModifiedTime);
+    }
 }
@@ -13,8 +13,6 @@ import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationLis
  * Interface of the StudentCourseAssociationListStorage component
  */
 public interface StudentCourseAssociationListStorage {
-    Optional<StudentCourseAssociationList> readScaList() throws DataLoadingException;
-
     Optional<StudentCourseAssociationList>
         readScaList(Path scaListFilePath, ReadOnlyAddressBook initialData, UniqueCourseList initialCourseList)
             throws DataLoadingException;
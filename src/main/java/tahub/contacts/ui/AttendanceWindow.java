@@ -1,5 +1,6 @@
 package tahub.contacts.ui;
 
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -13,8 +14,7 @@ import javafx.scene.control.ListView;
 import javafx.stage.Stage;
 import tahub.contacts.commons.core.LogsCenter;
 import tahub.contacts.logic.Logic;
-import tahub.contacts.logic.commands.exceptions.CommandException;
-import tahub.contacts.logic.parser.exceptions.ParseException;
+import tahub.contacts.model.ModelChange;
 import tahub.contacts.model.course.AttendanceSession;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.person.Person;
@@ -50,6 +50,7 @@ public class AttendanceWindow extends UiPart<Stage> {
     /** The currently selected student-course association. */
     private StudentCourseAssociation currentSca;
     private ListChangeListener<StudentCourseAssociation> scaListChangeListener;
+    private Consumer<ModelChange> modelChangeListener;
 
     // FXML injected fields documentation
     /** ComboBox for selecting different courses the student is enrolled in. */
@@ -93,15 +94,18 @@ public class AttendanceWindow extends UiPart<Stage> {
         setupScaListChangeListener();
         setupCourseComboBox();
 
-        // Register to listen for model changes
-        logic.addListener(() -> {
-            if (getRoot().isShowing()) {
+        // Register to listen for model changes that concern this student
+        modelChangeListener = change -> {
+            boolean isAffected = change.affectsAllStudents()
+                    || change.affectedStudents().contains(person.getMatricNumber());
+            if (isAffected && getRoot().isShowing()) {
                 javafx.application.Platform.runLater(() -> {
                     refreshDisplay();
                     updateComboBoxItems();
                 });
             }
-        });
+        };
+        logic.addListener(modelChangeListener);
 
         // Add listener to the stage's showing property to refresh when shown
         root.showingProperty().addListener((observable, oldValue, newValue) -> {
@@ -131,8 +135,7 @@ public class AttendanceWindow extends UiPart<Stage> {
                     if (getRoot().isShowing()) {
                         Platform.runLater(() -> {
                             // Force a complete rebuild of the ComboBox
-                            ObservableList<StudentCourseAssociation> scaList =
-                                    logic.getStudentScas(person).getByMatric(person.getMatricNumber().value);
+                            ObservableList<StudentCourseAssociation> scaList = getStudentScas();
 
                             // Store current selection's course code
                             String currentCourseCode = currentSca != null
@@ -195,8 +198,7 @@ public class AttendanceWindow extends UiPart<Stage> {
      * courses are available.
      */
     private void setupCourseComboBox() {
-        ObservableList<StudentCourseAssociation> scaList = logic.getStudentScas(person)
-                .getByMatric(person.getMatricNumber().value);
+        ObservableList<StudentCourseAssociation> scaList = getStudentScas();
 
         courseComboBox.setItems(scaList);
         courseComboBox.setCellFactory(lv -> createComboBoxCell());
@@ -230,8 +232,7 @@ public class AttendanceWindow extends UiPart<Stage> {
                     setText(null);
                 } else {
                     // Get fresh course data every time
-                    ObservableList<StudentCourseAssociation> currentList =
-                            logic.getStudentScas(person).getByMatric(person.getMatricNumber().value);
+                    ObservableList<StudentCourseAssociation> currentList = getStudentScas();
 
                     StudentCourseAssociation latestSca = currentList.stream()
                             .filter(sca -> sca.isSameSca(item))
@@ -249,8 +250,7 @@ public class AttendanceWindow extends UiPart<Stage> {
      * Updates the items in the combo box
      */
     private void updateComboBoxItems() {
-        ObservableList<StudentCourseAssociation> scaList = logic.getStudentScas(person)
-                .getByMatric(person.getMatricNumber().value);
+        ObservableList<StudentCourseAssociation> scaList = getStudentScas();
 
         StudentCourseAssociation selectedSca = courseComboBox.getValue();
         courseComboBox.setItems(scaList);
@@ -273,8 +273,7 @@ public class AttendanceWindow extends UiPart<Stage> {
     private void refreshDisplay() {
         if (currentSca != null) {
             // Get fresh data
-            ObservableList<StudentCourseAssociation> currentList =
-                    logic.getStudentScas(person).getByMatric(person.getMatricNumber().value);
+            ObservableList<StudentCourseAssociation> currentList = getStudentScas();
 
             // Find current SCA in fresh list
             StudentCourseAssociation latestSca = currentList.stream()
@@ -312,6 +311,13 @@ public class AttendanceWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Returns the enrollments of the student as of the latest command, which are not modified by later commands.
+     */
+    private ObservableList<StudentCourseAssociation> getStudentScas() {
+        return FXCollections.observableArrayList(logic.getSnapshot().getScasOfStudent(person.getMatricNumber()));
+    }
+
     /**
      * Displays a message indicating that the student has no course associations.
      * Clears all course-related information from the display.
@@ -336,12 +342,12 @@ public class AttendanceWindow extends UiPart<Stage> {
             String commandText = "attend-present m/" + currentSca.getStudent().getMatricNumber()
                     + " c/" + currentSca.getCourse().courseCode.toString()
                     + " tut/" + currentSca.getTutorial().getTutorialId();
-            try {
-                logic.execute(commandText);
+            logic.executeAsync(commandText).whenComplete((result, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    logger.severe("Failed to mark attendance as present: " + error.getMessage());
+                }
                 refreshDisplay();
-            } catch (CommandException | ParseException e) {
-                logger.severe("Failed to mark attendance as present: " + e.getMessage());
-            }
+            }));
         }
     }
 
@@ -355,12 +361,12 @@ public class AttendanceWindow extends UiPart<Stage> {
             String commandText = "attend-absent m/" + currentSca.getStudent().getMatricNumber()
                     + " c/" + currentSca.getCourse().courseCode.toString()
                     + " tut/" + currentSca.getTutorial().getTutorialId();
-            try {
-                logic.execute(commandText);
+            logic.executeAsync(commandText).whenComplete((result, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    logger.severe("Failed to mark attendance as absent: " + error.getMessage());
+                }
                 refreshDisplay();
-            } catch (CommandException | ParseException e) {
-                logger.severe("Failed to mark attendance as present: " + e.getMessage());
-            }
+            }));
         }
     }
 
@@ -405,5 +411,8 @@ public class AttendanceWindow extends UiPart<Stage> {
             logic.getStudentScas(person).asUnmodifiableObservableList()
                     .removeListener(scaListChangeListener);
         }
+        if (modelChangeListener != null) {
+            logic.removeListener(modelChangeListener);
+        }
     }
 }
@@ -1,12 +1,16 @@
 package tahub.contacts.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.control.TextFormatter;
 import javafx.scene.layout.Region;
+import tahub.contacts.logic.commands.BatchCommand;
 import tahub.contacts.logic.commands.CommandResult;
-import tahub.contacts.logic.commands.exceptions.CommandException;
-import tahub.contacts.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -15,6 +19,7 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
 
     private final CommandExecutor commandExecutor;
 
@@ -29,10 +34,25 @@ public class CommandBox extends UiPart<Region> {
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.setTextFormatter(new TextFormatter<>(this::handleTextChange));
+    }
+
+    /**
+     * Executes the commands of text with several lines (such as a pasted list of commands) as one batch,
+     * since the command box holds only one line. Other changes of the text are made as usual.
+     */
+    private TextFormatter.Change handleTextChange(TextFormatter.Change change) {
+        if (!change.isContentChange() || !LINE_BREAK.matcher(change.getText()).find()) {
+            return change;
+        }
+
+        executeCommand(BatchCommand.COMMAND_WORD + " " + change.getControlNewText());
+        return null;
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, so the user can keep typing while it executes.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +61,22 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        executeCommand(commandText);
+    }
+
+    /**
+     * Starts executing {@code commandText}, and clears the command box once it succeeds.
+     */
+    private void executeCommand(String commandText) {
+        String enteredText = commandTextField.getText();
+        commandExecutor.execute(commandText).whenComplete((result, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(enteredText)) {
+                // only clear the command if the user has not started typing another one
+                commandTextField.setText("");
+            }
+        }));
     }
 
     /**
@@ -75,11 +105,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns its result when done.
          *
-         * @see tahub.contacts.logic.Logic#execute(String)
+         * @see tahub.contacts.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
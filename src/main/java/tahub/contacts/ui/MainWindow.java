@@ -1,8 +1,10 @@
 package tahub.contacts.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,10 +15,10 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import tahub.contacts.commons.core.GuiSettings;
 import tahub.contacts.commons.core.LogsCenter;
+import tahub.contacts.commons.util.MirroredObservableList;
 import tahub.contacts.logic.Logic;
 import tahub.contacts.logic.commands.CommandResult;
-import tahub.contacts.logic.commands.exceptions.CommandException;
-import tahub.contacts.logic.parser.exceptions.ParseException;
+import tahub.contacts.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -111,11 +113,15 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic);
+        // commands change the person list on the model thread, so the panel shows a copy kept on the FX thread
+        ObservableList<Person> personList = new MirroredObservableList<>(logic.getFilteredPersonList(),
+                Platform::runLater).asUnmodifiableObservableList();
+        personListPanel = new PersonListPanel(personList, logic);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -169,28 +175,23 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, and applies its result to the UI on the JavaFX application thread.
      *
-     * @see tahub.contacts.logic.Logic#execute(String)
+     * @see tahub.contacts.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            // Immediate refresh for person-edit command
-            if (commandText.startsWith("person-edit")) {
-                Platform.runLater(() -> {
-                    personListPanel.refreshPersonView();
-                });
-            }
-
-            // Immediately refresh person list panel after course deletion or enrollment changes
-            if (commandText.startsWith("course-delete") || commandText.startsWith("enroll")
-                    || commandText.startsWith("unenroll")) {
-                personListPanel.refreshPersonView();
-            }
+            // Refresh the cards of the students whose details or enrollments the command has changed
+            personListPanel.refreshPersons(commandResult.getChanges());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -199,12 +200,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }));
     }
 }
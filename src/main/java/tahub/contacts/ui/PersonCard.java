@@ -1,6 +1,9 @@
 package tahub.contacts.ui;
 
-import javafx.collections.ObservableList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -9,22 +12,28 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import tahub.contacts.logic.Logic;
+import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
 
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * <p>
+ * The attendance window of a student is only created when it is first opened, and is released when it is closed.
+ * Cards are created and discarded as the list is scrolled, so the open windows are kept by student rather than by
+ * card, which also keeps a student from having more than one window open.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
+    /** The attendance windows that are open, by the matriculation number of their student. */
+    private static final Map<MatriculationNumber, AttendanceWindow> openAttendanceWindows = new HashMap<>();
+
     public final Person person;
     private final Logic logic;
 
-    private AttendanceWindow attendanceWindow;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -58,7 +67,6 @@ public class PersonCard extends UiPart<Region> {
         super(FXML);
         this.person = person;
         this.logic = logic;
-        attendanceWindow = new AttendanceWindow(person, logic);
         updateCardContent(displayedIndex);
     }
 
@@ -82,9 +90,8 @@ public class PersonCard extends UiPart<Region> {
     private void updateCourseTags() {
         tags.getChildren().clear();
 
-        // Get all courses the student is enrolled in
-        ObservableList<StudentCourseAssociation> scaList = logic.getStudentScas(person)
-                .getByMatric(person.getMatricNumber().value);
+        // Get all courses the student is enrolled in, as of the latest command
+        List<StudentCourseAssociation> scaList = logic.getSnapshot().getScasOfStudent(person.getMatricNumber());
 
         // Add course codes as tags
         for (StudentCourseAssociation sca : scaList) {
@@ -107,8 +114,9 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private void onClickHandler(ActionEvent event) {
         event.consume();
+        AttendanceWindow attendanceWindow = openAttendanceWindows.get(person.getMatricNumber());
         if (attendanceWindow == null) {
-            attendanceWindow = new AttendanceWindow(person, logic);
+            attendanceWindow = createAttendanceWindow();
         }
 
         if (!attendanceWindow.isShowing()) {
@@ -118,14 +126,29 @@ public class PersonCard extends UiPart<Region> {
         }
     }
 
+    /**
+     * Creates the attendance window of the student, which releases itself and its listeners once it is closed.
+     */
+    private AttendanceWindow createAttendanceWindow() {
+        MatriculationNumber matricNumber = person.getMatricNumber();
+        AttendanceWindow attendanceWindow = new AttendanceWindow(person, logic);
+        attendanceWindow.getRoot().setOnHidden(hiddenEvent -> {
+            attendanceWindow.cleanup();
+            openAttendanceWindows.remove(matricNumber, attendanceWindow);
+        });
+        openAttendanceWindows.put(matricNumber, attendanceWindow);
+        return attendanceWindow;
+    }
+
     /**
      * Cleanup resources when the card is being removed.
+     * Closes the attendance window of the student, if it is open.
      */
     public void cleanup() {
+        AttendanceWindow attendanceWindow = openAttendanceWindows.get(person.getMatricNumber());
         if (attendanceWindow != null) {
-            attendanceWindow.cleanup();
+            // the window is released by its hidden handler
             attendanceWindow.hide();
-            attendanceWindow = null;
         }
     }
 
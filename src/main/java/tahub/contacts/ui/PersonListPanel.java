@@ -1,5 +1,10 @@
 package tahub.contacts.ui;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,10 +16,16 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import tahub.contacts.commons.core.LogsCenter;
 import tahub.contacts.logic.Logic;
+import tahub.contacts.model.ModelChange;
+import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Person;
 
 /**
  * Panel containing the list of persons.
+ * <p>
+ * The cards of the list are only rebuilt when their person is replaced in the list. After changes that do not
+ * replace a person, such as enrollments, {@link #refreshPersons(Collection)} updates the cards of the affected
+ * students in place, and leaves every other card untouched.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
@@ -22,6 +33,8 @@ public class PersonListPanel extends UiPart<Region> {
 
     private ListChangeListener<Person> personListChangeListener;
     private Logic logic;
+    /** The cells created by the list view, which it may discard at any time. */
+    private final Set<PersonListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
 
     @FXML
     private ListView<Person> personListView;
@@ -33,7 +46,11 @@ public class PersonListPanel extends UiPart<Region> {
         super(FXML);
         this.logic = logic;
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.setCellFactory(listView -> {
+            PersonListViewCell cell = new PersonListViewCell();
+            cells.add(cell);
+            return cell;
+        });
         setupPersonListChangeListener(personList);
     }
 
@@ -56,10 +73,8 @@ public class PersonListPanel extends UiPart<Region> {
      * Cleans up all attendance windows when the list is cleared
      */
     private void cleanupAllWindows() {
-        // Get all cells and cleanup their attendance windows
-        for (int i = 0; i < personListView.getItems().size(); i++) {
-            PersonListViewCell cell = (PersonListViewCell) personListView.lookup("#" + i);
-            if (cell != null && cell.getPersonCard() != null) {
+        for (PersonListViewCell cell : cells) {
+            if (cell.getPersonCard() != null) {
                 cell.getPersonCard().cleanup();
             }
         }
@@ -103,6 +118,16 @@ public class PersonListPanel extends UiPart<Region> {
             return personCard;
         }
 
+        /**
+         * Updates the card in place if it shows one of {@code students}.
+         */
+        void refreshIfShowing(Set<MatriculationNumber> students) {
+            Person person = getItem();
+            if (personCard != null && person != null && students.contains(person.getMatricNumber())) {
+                personCard.refresh(getIndex() + 1);
+            }
+        }
+
         @Override
         public void updateIndex(int index) {
             super.updateIndex(index);
@@ -111,15 +136,27 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     /**
-     * Refreshes the person view to reflect any changes in person details or tags
+     * Refreshes the cards of the students affected by {@code changes}, and keeps all other cards as they are.
+     * Cards that are not showing are brought up to date by the list view when they are shown again.
      */
-    public void refreshPersonView() {
+    public void refreshPersons(Collection<ModelChange> changes) {
+        Set<MatriculationNumber> affectedStudents = new HashSet<>();
+        for (ModelChange change : changes) {
+            if (change.affectsAllStudents()) {
+                // cards of unchanged persons are reused by the cells and only have their content updated
+                Platform.runLater(personListView::refresh);
+                return;
+            }
+            affectedStudents.addAll(change.affectedStudents());
+        }
+        if (affectedStudents.isEmpty()) {
+            return;
+        }
+
         Platform.runLater(() -> {
-            // Force a complete refresh of the list view
-            ObservableList<Person> items = personListView.getItems();
-            personListView.setItems(null);
-            personListView.setItems(items);
-            personListView.refresh();
+            for (PersonListViewCell cell : cells) {
+                cell.refreshIfShowing(affectedStudents);
+            }
         });
     }
 
@@ -0,0 +1,71 @@
+package tahub.contacts.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchObservableListTest {
+
+    private final BatchObservableList<String> list = new BatchObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    private void listen() {
+        list.addListener((ListChangeListener<String>) changes::add);
+    }
+
+    @Test
+    public void modify_outsideBatch_oneChangePerModification() {
+        list.addAll(List.of("a", "b", "c"));
+        listen();
+        list.set(0, "x");
+        list.set(2, "z");
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void batch_severalModifications_oneChange() {
+        list.addAll(List.of("a", "b", "c"));
+        listen();
+        list.batch(() -> {
+            list.set(0, "x");
+            list.set(2, "z");
+            list.remove("b");
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of("x", "z"), list);
+    }
+
+    @Test
+    public void batch_nested_oneChangeAtOutermostEnd() {
+        listen();
+        list.batch(() -> {
+            list.add("a");
+            list.batch(() -> list.add("b"));
+            assertEquals(0, changes.size());
+            list.add("c");
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void batch_modificationsThrow_changeStillFired() {
+        listen();
+        assertThrows(IllegalStateException.class, () -> list.batch(() -> {
+            list.add("a");
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, changes.size());
+        list.add("b");
+        assertEquals(2, changes.size());
+    }
+}
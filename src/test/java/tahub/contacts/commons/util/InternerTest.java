@@ -0,0 +1,48 @@
+package tahub.contacts.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_equalKeys_factoryCalledOnce() {
+        AtomicInteger factoryCalls = new AtomicInteger();
+        Interner<StringBuilder> interner = new Interner<>(key -> {
+            factoryCalls.incrementAndGet();
+            return new StringBuilder(key);
+        });
+
+        StringBuilder first = interner.intern("CS1010");
+        StringBuilder second = interner.intern(new String("CS1010"));
+        interner.intern("MA1521");
+
+        assertSame(first, second);
+        assertEquals(2, factoryCalls.get());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        AtomicInteger factoryCalls = new AtomicInteger();
+        Interner<String> interner = new Interner<>(key -> {
+            if (factoryCalls.incrementAndGet() == 1) {
+                throw new IllegalArgumentException();
+            }
+            return key;
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("T01"));
+        assertEquals("T01", interner.intern("T01"));
+        assertEquals(2, factoryCalls.get());
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<>(key -> key).intern(null));
+    }
+}
@@ -0,0 +1,79 @@
+package tahub.contacts.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LongIntHashMapTest {
+
+    @Test
+    public void put_newAndExistingKeys_previousValueReturned() {
+        LongIntHashMap map = new LongIntHashMap();
+        assertEquals(LongIntHashMap.MISSING, map.put(42L, 1));
+        assertEquals(1, map.put(42L, 2));
+        assertEquals(2, map.get(42L));
+        assertEquals(1, map.size());
+        assertEquals(LongIntHashMap.MISSING, map.get(43L));
+    }
+
+    @Test
+    public void put_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap().put(1L, -1));
+    }
+
+    @Test
+    public void remove_presentAndAbsentKeys_entryRemoved() {
+        LongIntHashMap map = new LongIntHashMap();
+        map.put(0L, 0);
+        map.put(-5L, 7);
+
+        assertEquals(7, map.remove(-5L));
+        assertEquals(LongIntHashMap.MISSING, map.remove(-5L));
+        assertFalse(map.containsKey(-5L));
+        assertTrue(map.containsKey(0L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void clear_nonEmptyMap_allEntriesRemoved() {
+        LongIntHashMap map = new LongIntHashMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(50L));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Random random = new Random(2103);
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            // a small key range, so that puts, overwrites and removes of present keys all happen often
+            long key = random.nextInt(500) * 26L;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.remove(key));
+                expected.remove(key);
+            } else {
+                int value = random.nextInt(1000);
+                assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.put(key, value));
+                expected.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 500 * 26L; key += 26) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.get(key));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package tahub.contacts.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class MirroredObservableListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final List<Runnable> pendingReplays = new ArrayList<>();
+    private final MirroredObservableList<String> mirror = new MirroredObservableList<>(source, pendingReplays::add);
+
+    private void replayPending() {
+        pendingReplays.forEach(Runnable::run);
+        pendingReplays.clear();
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(List.of("a", "b", "c"), mirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_copyUnchangedUntilReplayed() {
+        source.add("d");
+        source.remove("a");
+        assertEquals(List.of("a", "b", "c"), mirror.asUnmodifiableObservableList());
+
+        replayPending();
+        assertEquals(List.of("b", "c", "d"), mirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_changesWhileReplayPending_replayedTogether() {
+        AtomicInteger changes = new AtomicInteger();
+        mirror.asUnmodifiableObservableList().addListener((ListChangeListener<String>) change ->
+                changes.incrementAndGet());
+
+        source.add("d");
+        source.remove("a");
+        source.set(0, "x");
+
+        assertEquals(1, pendingReplays.size());
+        replayPending();
+        assertEquals(1, changes.get());
+        assertEquals(List.of("x", "c", "d"), mirror.asUnmodifiableObservableList());
+
+        source.add("e");
+        assertEquals(1, pendingReplays.size());
+    }
+
+    @Test
+    public void sourceChanged_eachChangeReplayedAsOneChange() {
+        BatchObservableList<String> batchSource = new BatchObservableList<>();
+        batchSource.addAll(List.of("a", "b", "c", "d"));
+        MirroredObservableList<String> batchMirror = new MirroredObservableList<>(batchSource, Runnable::run);
+        AtomicInteger changes = new AtomicInteger();
+        batchMirror.asUnmodifiableObservableList().addListener((ListChangeListener<String>) change ->
+                changes.incrementAndGet());
+
+        batchSource.batch(() -> {
+            batchSource.set(0, "x");
+            batchSource.remove("c");
+            batchSource.add(1, "y");
+        });
+
+        assertEquals(1, changes.get());
+        assertEquals(batchSource, batchMirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_manyKindsOfChanges_copyEqualsSource() {
+        source.setAll("d", "a", "c", "b");
+        source.sort(Comparator.naturalOrder());
+        source.removeIf(element -> element.equals("b") || element.equals("d"));
+        source.addAll(1, List.of("x", "y"));
+        source.set(0, "z");
+        source.sort(Comparator.reverseOrder());
+
+        replayPending();
+        assertEquals(source, mirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_filteredSource_copyEqualsSource() {
+        FilteredList<String> filteredSource = new FilteredList<>(source);
+        MirroredObservableList<String> filteredMirror = new MirroredObservableList<>(filteredSource, Runnable::run);
+
+        source.add("bb");
+        filteredSource.setPredicate(element -> element.startsWith("b"));
+        source.add(0, "ba");
+        source.remove("b");
+
+        assertEquals(List.of("ba", "bb"), filteredMirror.asUnmodifiableObservableList());
+        filteredSource.setPredicate(null);
+        assertEquals(source, filteredMirror.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,134 @@
+package tahub.contacts.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+    }
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list);
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void modify_newVersion_oldVersionUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x"));
+        assertEquals(List.of("a", "x", "b", "c"), original.plus(1, "x"));
+        assertEquals(List.of("a", "b", "c", "x"), original.plus("x"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void modify_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+    }
+
+    @Test
+    public void add_immutable_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.empty().add("a"));
+    }
+
+    @Test
+    public void modify_manyRandomModifications_matchesArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected, new ArrayList<>(list));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_modifiedVersions_matchElementwiseComparison() {
+        Random random = new Random(2311);
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(new Object());
+        }
+        PersistentList<Object> base = PersistentList.copyOf(elements);
+
+        for (int trial = 0; trial < 200; trial++) {
+            PersistentList<Object> version = base;
+            for (int modification = random.nextInt(4); modification > 0; modification--) {
+                int operation = random.nextInt(3);
+                if (operation == 0) {
+                    version = version.plus(random.nextInt(version.size() + 1), new Object());
+                } else if (operation == 1) {
+                    version = version.with(random.nextInt(version.size()), new Object());
+                } else {
+                    version = version.minus(random.nextInt(version.size()));
+                }
+            }
+
+            assertEquals(countCommonPrefix(base, version), base.commonPrefixLength(version));
+            assertEquals(countCommonPrefix(reversed(base), reversed(version)), base.commonSuffixLength(version));
+        }
+    }
+
+    @Test
+    public void commonPrefixLength_unsharedListsWithSameElements_wholeList() {
+        List<Object> elements = List.of(new Object(), new Object(), new Object());
+        PersistentList<Object> list = PersistentList.copyOf(elements);
+
+        assertEquals(3, list.commonPrefixLength(PersistentList.copyOf(new ArrayList<>(elements))));
+        assertEquals(2, list.commonSuffixLength(PersistentList.copyOf(elements.subList(1, 3))));
+        assertEquals(0, list.commonPrefixLength(PersistentList.empty()));
+    }
+
+    private static int countCommonPrefix(List<Object> list, List<Object> other) {
+        int length = 0;
+        while (length < list.size() && length < other.size() && list.get(length) == other.get(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static List<Object> reversed(List<Object> list) {
+        List<Object> reversed = new ArrayList<>(list);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+}
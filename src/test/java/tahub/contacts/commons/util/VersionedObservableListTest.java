@@ -0,0 +1,103 @@
+package tahub.contacts.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class VersionedObservableListTest {
+
+    private final VersionedObservableList<String> list = new VersionedObservableList<>();
+
+    @Test
+    public void getVersion_afterModifications_matchesList() {
+        list.addAll(List.of("a", "b", "c"));
+        list.set(1, "x");
+        list.remove("a");
+        list.add(0, "y");
+
+        assertEquals(List.of("y", "x", "c"), list.getVersion());
+    }
+
+    @Test
+    public void getVersion_listModifiedLater_versionUnchanged() {
+        list.addAll(List.of("a", "b"));
+        PersistentList<String> version = list.getVersion();
+
+        list.add("c");
+        list.setAll(List.of("d"));
+
+        assertEquals(List.of("a", "b"), version);
+        assertEquals(List.of("d"), list.getVersion());
+    }
+
+    @Test
+    public void getVersion_withFreezer_holdsCopiesUntilRefrozen() {
+        VersionedObservableList<List<String>> lists = new VersionedObservableList<>(ArrayList::new);
+        List<String> element = new ArrayList<>(List.of("a"));
+        lists.add(element);
+        PersistentList<List<String>> version = lists.getVersion();
+        assertNotSame(element, version.get(0));
+
+        element.add("b");
+        assertEquals(List.of("a"), lists.getVersion().get(0));
+        lists.refreeze(0);
+
+        assertEquals(List.of("a", "b"), lists.getVersion().get(0));
+        assertEquals(List.of("a"), version.get(0));
+    }
+
+    @Test
+    public void getVersion_noModification_sameVersion() {
+        list.add("a");
+        assertSame(list.getVersion(), list.getVersion());
+    }
+
+    @Test
+    public void restore_oneElementChanged_onlyThatElementReplaced() {
+        VersionedObservableList<List<String>> lists = new VersionedObservableList<>(ArrayList::new);
+        List<String> first = new ArrayList<>(List.of("a"));
+        List<String> last = new ArrayList<>(List.of("c"));
+        lists.addAll(List.of(first, new ArrayList<>(List.of("b")), last));
+        PersistentList<List<String>> version = lists.getVersion();
+        lists.set(1, new ArrayList<>(List.of("x")));
+        List<ListChangeListener.Change<? extends List<String>>> changes = new ArrayList<>();
+        lists.addListener((ListChangeListener<List<String>>) changes::add);
+
+        VersionedObservableList.Restoration<List<String>> restoration = lists.restore(version, ArrayList::new);
+
+        assertEquals(1, restoration.fromIndex());
+        assertEquals(List.of(List.of("x")), restoration.removedElements());
+        assertEquals(List.of(List.of("b")), restoration.addedElements());
+        assertEquals(List.of(List.of("a"), List.of("b"), List.of("c")), lists);
+        assertSame(first, lists.get(0));
+        assertSame(last, lists.get(2));
+        assertNotSame(version.get(1), lists.get(1));
+        assertSame(version, lists.getVersion());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void restore_manyInsertionsAndRemovals_matchesVersion() {
+        for (int i = 0; i < 100; i++) {
+            list.add("element" + i);
+        }
+        PersistentList<String> version = list.getVersion();
+        list.remove(10, 60);
+        list.add(5, "inserted");
+
+        list.restore(version, UnaryOperator.identity());
+        assertEquals(version, list);
+        assertSame(version, list.getVersion());
+
+        list.add("added");
+        assertEquals(list, list.getVersion());
+    }
+}
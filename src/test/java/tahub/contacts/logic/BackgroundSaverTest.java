@@ -0,0 +1,255 @@
+package tahub.contacts.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.testutil.TypicalPersons.ALICE;
+import static tahub.contacts.testutil.TypicalPersons.BENSON;
+import static tahub.contacts.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelManager;
+import tahub.contacts.model.ModelSnapshot;
+import tahub.contacts.model.ReadOnlyAddressBook;
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.course.CourseCode;
+import tahub.contacts.model.course.CourseName;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.person.Person;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+import tahub.contacts.model.tutorial.Tutorial;
+import tahub.contacts.storage.CommandJournal;
+import tahub.contacts.storage.StorageManager;
+
+public class BackgroundSaverTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    /**
+     * Adds {@code person} to the model and returns the snapshot published afterwards.
+     */
+    private ModelSnapshot publishWith(Person person) {
+        model.addPerson(person);
+        model.publishSnapshot();
+        return model.getSnapshot();
+    }
+
+    @Test
+    public void saveAddressBook_savesWhileBusy_onlyLatestSnapshotWritten() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        BackgroundSaver saver = new BackgroundSaver(storage);
+
+        saver.saveAddressBook(publishWith(ALICE));
+        assertTrue(storage.writeStarted.await(5, TimeUnit.SECONDS));
+
+        // the first write is blocked, so these two snapshots are coalesced into one write
+        saver.saveAddressBook(publishWith(BENSON));
+        saver.saveAddressBook(publishWith(CARL));
+
+        storage.releaseWrites.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.savedAddressBooks.size());
+        assertEquals(List.of(ALICE), storage.savedAddressBooks.get(0).getPersonList());
+        assertEquals(List.of(ALICE, BENSON, CARL), storage.savedAddressBooks.get(1).getPersonList());
+    }
+
+    @Test
+    public void saveScaList_attendanceChangedAfterSave_snapshotUnchanged() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        storage.releaseWrites.countDown();
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        Course course = new Course(new CourseCode("CS1010"), new CourseName("Introduction to CS"));
+        StudentCourseAssociation sca = new StudentCourseAssociation(ALICE, course, new Tutorial("T01", course));
+        model.addPerson(ALICE);
+        model.addCourse(course);
+        model.addSca(sca);
+        model.publishSnapshot();
+
+        saver.saveScaList(model.getSnapshot());
+        sca.getAttendance().addAttendedLesson();
+        model.notifyAttendanceChanged(sca);
+        saver.flush();
+
+        assertEquals(1, storage.savedScaLists.size());
+        assertEquals(0, storage.savedScaLists.get(0).get().get(0).getAttendance().getAttendanceTotalCount());
+    }
+
+    @Test
+    public void saveAddressBook_storageThrows_failureReported() {
+        IOException exception = new IOException("dummy IO exception");
+        StorageManager storage = new StorageManager(null, null, null, null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        List<String> reportedFailures = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(reportedFailures::add);
+
+        saver.saveAddressBook(model.getSnapshot());
+        saver.flush();
+
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, exception.getMessage())),
+                reportedFailures);
+    }
+
+    @Test
+    public void saveSnapshot_storageThrows_journalEntriesKept() throws Exception {
+        StorageManager storage = new StorageManager(null, null, null, null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+
+            @Override
+            public void saveCourseList(UniqueCourseList courseList) {
+            }
+
+            @Override
+            public void saveScaList(StudentCourseAssociationList scaList) {
+            }
+        };
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        BackgroundSaver saver = new BackgroundSaver(storage, journal);
+
+        saver.appendToJournal("clear");
+        saver.saveSnapshot(model.getSnapshot());
+        saver.appendToJournal("list");
+        saver.flush();
+
+        assertEquals(List.of("clear", "list"), journal.readEntries());
+    }
+
+    @Test
+    public void saveAddressBook_storageThrowsOnce_writtenAgainWithNextSave() {
+        List<ReadOnlyAddressBook> savedAddressBooks = new CopyOnWriteArrayList<>();
+        StorageManager storage = new StorageManager(null, null, null, null) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("dummy IO exception");
+                }
+                savedAddressBooks.add(addressBook);
+            }
+
+            @Override
+            public void saveCourseList(UniqueCourseList courseList) {
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage);
+
+        saver.saveAddressBook(publishWith(ALICE));
+        saver.flush();
+        assertTrue(savedAddressBooks.isEmpty());
+
+        // the failed address book is not lost, although only the course list has changed since
+        saver.saveCourseList(model.getSnapshot());
+        saver.flush();
+
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(List.of(ALICE), savedAddressBooks.get(0).getPersonList());
+    }
+
+    @Test
+    public void saveSnapshot_storageThrowsOnce_journalClearedAfterRetry() throws Exception {
+        StorageManager storage = new StorageManager(null, null, null, null) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("dummy IO exception");
+                }
+            }
+
+            @Override
+            public void saveCourseList(UniqueCourseList courseList) {
+            }
+
+            @Override
+            public void saveScaList(StudentCourseAssociationList scaList) {
+            }
+        };
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        BackgroundSaver saver = new BackgroundSaver(storage, journal);
+
+        saver.appendToJournal("clear");
+        saver.saveSnapshot(model.getSnapshot());
+        saver.flush();
+        assertEquals(List.of("clear"), journal.readEntries());
+
+        saver.appendToJournal("list");
+        saver.flush();
+
+        assertEquals(List.of("list"), journal.readEntries());
+    }
+
+    @Test
+    public void saveSnapshot_success_coveredJournalEntriesCleared() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        storage.releaseWrites.countDown();
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        journal.append(List.of("clear"));
+        BackgroundSaver saver = new BackgroundSaver(storage, journal);
+
+        saver.appendToJournal("clear");
+        saver.saveSnapshot(model.getSnapshot());
+        saver.appendToJournal("list");
+        saver.flush();
+
+        assertEquals(List.of("list"), journal.readEntries());
+    }
+
+    /**
+     * A storage that records what it is asked to save, and holds back address book writes until released.
+     */
+    private static class RecordingStorage extends StorageManager {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrites = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new CopyOnWriteArrayList<>();
+        private final List<StudentCourseAssociationList> savedScaLists = new CopyOnWriteArrayList<>();
+
+        RecordingStorage() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            savedAddressBooks.add(addressBook);
+        }
+
+        @Override
+        public void saveCourseList(UniqueCourseList courseList) {
+        }
+
+        @Override
+        public void saveScaList(StudentCourseAssociationList scaList) {
+            savedScaLists.add(scaList);
+        }
+    }
+}
@@ -1,40 +1,58 @@
 package tahub.contacts.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tahub.contacts.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static tahub.contacts.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static tahub.contacts.logic.commands.CommandTestUtil.MATRICULATION_NUMBER_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.MATRICULATION_NUMBER_DESC_BOB;
 import static tahub.contacts.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static tahub.contacts.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
-import static tahub.contacts.testutil.Assert.assertThrows;
+import static tahub.contacts.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static tahub.contacts.logic.commands.CommandTestUtil.VALID_MATRICULATION_NUMBER_AMY;
 import static tahub.contacts.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import tahub.contacts.logic.commands.BatchCommand;
+import tahub.contacts.logic.commands.ClearCommand;
 import tahub.contacts.logic.commands.CommandResult;
 import tahub.contacts.logic.commands.ListCommand;
+import tahub.contacts.logic.commands.UndoCommand;
 import tahub.contacts.logic.commands.exceptions.CommandException;
 import tahub.contacts.logic.commands.person.PersonAddCommand;
 import tahub.contacts.logic.parser.exceptions.ParseException;
 import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelChange;
 import tahub.contacts.model.ModelManager;
 import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
 import tahub.contacts.model.course.CourseName;
 import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
 import tahub.contacts.model.tutorial.Tutorial;
+import tahub.contacts.storage.CommandJournal;
 import tahub.contacts.storage.JsonAddressBookStorage;
 import tahub.contacts.storage.JsonStudentCourseAssociationListStorage;
 import tahub.contacts.storage.JsonUniqueCourseListStorage;
@@ -54,6 +72,10 @@ public class LogicManagerTest {
 
     @BeforeEach
     public void setUp() {
+        logic = new LogicManager(model, createStorage());
+    }
+
+    private StorageManager createStorage() {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
@@ -61,9 +83,8 @@ public class LogicManagerTest {
                 new JsonUniqueCourseListStorage(temporaryFolder.resolve("courseList.json"));
         JsonStudentCourseAssociationListStorage scaListStorage = new JsonStudentCourseAssociationListStorage(
                 temporaryFolder.resolve("courseList.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage,
+        return new StorageManager(addressBookStorage, userPrefsStorage,
                 courseListStorage, scaListStorage);
-        logic = new LogicManager(model, storage);
     }
 
     @Test
@@ -73,14 +94,216 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_commands_resultsCarryChangesMadeByEachCommand() throws Exception {
+        List<ModelChange> notifiedChanges = new CopyOnWriteArrayList<>();
+        logic.addListener(notifiedChanges::add);
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        CommandResult addResult = logic.execute(addCommand);
+        CommandResult listResult = logic.execute(ListCommand.COMMAND_WORD);
+
+        List<ModelChange> expectedChanges = List.of(
+                new ModelChange.PersonAdded(new MatriculationNumber(VALID_MATRICULATION_NUMBER_AMY)));
+        assertEquals(expectedChanges, addResult.getChanges());
+        assertTrue(listResult.getChanges().isEmpty());
+        assertEquals(expectedChanges, notifiedChanges);
+    }
+
+    @Test
+    public void execute_modifyingCommand_listenersNotifiedAfterSnapshotPublished() throws Exception {
+        List<List<Person>> personsSeenByListener = new CopyOnWriteArrayList<>();
+        logic.addListener(change -> personsSeenByListener.add(logic.getSnapshot().getPersons()));
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        logic.execute(addCommand);
+
+        List<Person> expectedPersons = List.of(new PersonBuilder(AMY).withTags().build());
+        assertEquals(List.of(expectedPersons), personsSeenByListener);
+        assertEquals(expectedPersons, logic.getSnapshot().getPersons());
+    }
+
+    @Test
+    public void executeAsync_commands_executedInOrderOffCallingThread() throws Exception {
+        List<String> executingThreads = new CopyOnWriteArrayList<>();
+        logic.addListener(change -> executingThreads.add(Thread.currentThread().getName()));
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        CompletableFuture<CommandResult> addResult = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> duplicateResult = logic.executeAsync(addCommand);
+
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        assertEquals(String.format(PersonAddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                addResult.get().getFeedbackToUser());
+        ExecutionException e = assertThrows(ExecutionException.class, duplicateResult::get);
+        assertTrue(e.getCause() instanceof CommandException);
+        assertEquals(1, executingThreads.size());
+        assertNotEquals(Thread.currentThread().getName(), executingThreads.get(0));
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() {
+        ExecutionException e = assertThrows(ExecutionException.class, () ->
+                logic.executeAsync("uicfhmowqewca").get());
+        assertTrue(e.getCause() instanceof ParseException);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("courseList.json")));
+    }
+
+    @Test
+    public void execute_modifyingCommand_savesChangedStoreOnly() throws Exception {
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flushPendingSaves();
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("courseList.json")));
+    }
+
+    @Test
+    public void execute_journalEnabled_onlyModifyingCommandsJournaled() throws Exception {
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        logic = new LogicManager(model, createStorage(), journal);
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(addCommand);
+        logic.flushPendingSaves();
+
+        assertEquals(List.of(addCommand), journal.readEntries());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_undoWithJournalEnabled_snapshotSavedAndJournalCleared() throws Exception {
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        logic = new LogicManager(model, createStorage(), journal);
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        logic.execute(addCommand);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+
+        assertTrue(journal.readEntries().isEmpty());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertTrue(logic.getSnapshot().getPersons().isEmpty());
+    }
+
+    @Test
+    public void execute_batchWithJournalEnabled_savedOnceAsOneUndoStep() throws Exception {
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        logic = new LogicManager(model, createStorage(), journal);
+        String addAmyCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String addBobCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_BOB
+                + NAME_DESC_BOB + PHONE_DESC_BOB
+                + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+
+        CommandResult result = logic.execute(BatchCommand.COMMAND_WORD + " " + addAmyCommand + "\n" + addBobCommand);
+        logic.flushPendingSaves();
+
+        assertEquals(2, result.getChanges().size());
+        assertEquals(2, logic.getSnapshot().getPersons().size());
+        assertTrue(journal.readEntries().isEmpty());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertTrue(model.canUndo());
+        model.undo();
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_batchFails_nothingPublishedOrSaved() {
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        assertThrows(CommandException.class, () ->
+                logic.execute(BatchCommand.COMMAND_WORD + " " + addCommand + "\n" + addCommand));
+        logic.flushPendingSaves();
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertTrue(logic.getSnapshot().getPersons().isEmpty());
+        assertFalse(model.canUndo());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_saveDeferred_savedOnlyWhenRequested() throws Exception {
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        logic = new LogicManager(model, createStorage(), journal);
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        logic.setSaveDeferred(true);
+        logic.execute(addCommand);
+        logic.flushPendingSaves();
+        assertTrue(journal.readEntries().isEmpty());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        logic.saveDeferredChanges();
+        logic.flushPendingSaves();
+        assertTrue(journal.readEntries().isEmpty());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void setSaveDeferred_stoppedDeferring_deferredChangesSaved() throws Exception {
+        String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+                + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        logic.setSaveDeferred(true);
+        logic.execute(addCommand);
+        logic.setSaveDeferred(false);
+        logic.flushPendingSaves();
+
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_journalReachesSnapshotInterval_snapshotSavedAndJournalCleared() throws Exception {
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journal.txt"));
+        logic = new LogicManager(model, createStorage(), journal);
+
+        for (int i = 0; i < LogicManager.JOURNAL_SNAPSHOT_INTERVAL - 1; i++) {
+            logic.execute(ClearCommand.COMMAND_WORD);
+        }
+        logic.flushPendingSaves();
+        assertEquals(LogicManager.JOURNAL_SNAPSHOT_INTERVAL - 1, journal.readEntries().size());
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertTrue(journal.readEntries().isEmpty());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -89,7 +312,6 @@ public class LogicManagerTest {
      * - no exceptions are thrown <br>
      * - the feedback message is equal to {@code expectedMessage} <br>
      * - the internal model manager state is the same as that in {@code expectedModel} <br>
-     * @see #assertCommandFailure(String, Class, String, Model)
      */
     private void assertCommandSuccess(String inputCommand, String expectedMessage,
                                       Model expectedModel) throws CommandException, ParseException {
@@ -98,26 +320,16 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
-    /**
-     * Executes the command and confirms that
-     * - the {@code expectedException} is thrown <br>
-     * - the resulting error message is equal to {@code expectedMessage} <br>
-     * - the internal model manager state is the same as that in {@code expectedModel} <br>
-     * @see #assertCommandSuccess(String, String, Model)
-     */
-    private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
-                                      String expectedMessage, Model expectedModel) {
-        assertThrows(expectedException, expectedMessage, () -> logic.execute(inputCommand));
-        assertEquals(expectedModel, model);
-    }
-
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, and the failure is reported to the save failure handler once the
+     * background save has run.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be given to the save failure handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -138,6 +350,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage,
                 courseListStorage, scaListStorage);
         logic = new LogicManager(model, storage);
+        List<String> reportedFailures = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedFailures::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
@@ -146,7 +360,10 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        logic.flushPendingSaves();
+        assertEquals(List.of(expectedMessage), reportedFailures);
+        assertEquals(expectedModel, model);
     }
 
     @Test
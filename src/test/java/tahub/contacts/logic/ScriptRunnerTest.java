@@ -0,0 +1,124 @@
+package tahub.contacts.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.MATRICULATION_NUMBER_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tahub.contacts.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tahub.contacts.logic.commands.ExitCommand;
+import tahub.contacts.logic.commands.ListCommand;
+import tahub.contacts.logic.commands.person.PersonAddCommand;
+import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelManager;
+import tahub.contacts.storage.JsonAddressBookStorage;
+import tahub.contacts.storage.JsonStudentCourseAssociationListStorage;
+import tahub.contacts.storage.JsonUniqueCourseListStorage;
+import tahub.contacts.storage.JsonUserPrefsStorage;
+import tahub.contacts.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_COMMAND = PersonAddCommand.COMMAND_WORD + MATRICULATION_NUMBER_DESC_AMY
+            + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+    private final PrintStream output = new PrintStream(outputBytes, true, StandardCharsets.UTF_8);
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonUniqueCourseListStorage(temporaryFolder.resolve("courseList.json")),
+                new JsonStudentCourseAssociationListStorage(temporaryFolder.resolve("scaList.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    private static BufferedReader scriptOf(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    private String getOutput() {
+        return outputBytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void constructor_invalidCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(logic, output, 0));
+    }
+
+    @Test
+    public void run_validScript_commandsExecutedAndSaved() throws Exception {
+        ScriptRunner.Summary summary = new ScriptRunner(logic, output).run(scriptOf(ADD_COMMAND, "",
+                ListCommand.COMMAND_WORD));
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(0, summary.getFailureCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(summary.format() + System.lineSeparator(), getOutput());
+    }
+
+    @Test
+    public void run_failingCommands_reportedWithLineNumbers() throws Exception {
+        ScriptRunner.Summary summary = new ScriptRunner(logic, output).run(scriptOf(ADD_COMMAND, "unknownCommand",
+                ADD_COMMAND));
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(2, summary.getFailureCount());
+        assertTrue(getOutput().startsWith(String.format(ScriptRunner.MESSAGE_LINE_FAILED, 2, "Unknown command")
+                + System.lineSeparator() + String.format(ScriptRunner.MESSAGE_LINE_FAILED, 3,
+                PersonAddCommand.MESSAGE_DUPLICATE_PERSON)));
+    }
+
+    @Test
+    public void run_exitCommand_remainingLinesSkipped() throws Exception {
+        ScriptRunner.Summary summary = new ScriptRunner(logic, output).run(scriptOf(ExitCommand.COMMAND_WORD,
+                ADD_COMMAND));
+
+        assertEquals(1, summary.getCommandCount());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void summary_latencyPercentiles() {
+        ScriptRunner.Summary summary = new ScriptRunner.Summary(4, 0, 2_000_000_000L, new long[] {40, 10, 30, 20});
+
+        assertEquals(20, summary.getLatencyPercentile(50));
+        assertEquals(40, summary.getLatencyPercentile(99));
+        assertEquals(10, summary.getLatencyPercentile(1));
+        assertEquals(2.0, summary.getCommandsPerSecond());
+        assertThrows(IllegalArgumentException.class, () -> summary.getLatencyPercentile(0));
+    }
+
+    @Test
+    public void summary_noCommands_zeroLatency() {
+        ScriptRunner.Summary summary = new ScriptRunner.Summary(0, 0, 0, new long[0]);
+
+        assertEquals(0, summary.getLatencyPercentile(99));
+        assertEquals(0.0, summary.getCommandsPerSecond());
+    }
+}
@@ -0,0 +1,91 @@
+package tahub.contacts.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.testutil.TypicalPersons.ALICE;
+import static tahub.contacts.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tahub.contacts.logic.Messages;
+import tahub.contacts.logic.commands.exceptions.CommandException;
+import tahub.contacts.logic.commands.person.PersonAddCommand;
+import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelManager;
+
+public class BatchCommandTest {
+
+    private static BatchCommand batchOf(Command... commands) {
+        List<BatchCommand.Line> lines = new ArrayList<>();
+        for (int i = 0; i < commands.length; i++) {
+            lines.add(new BatchCommand.Line(i + 1, commands[i]));
+        }
+        return new BatchCommand(lines);
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_reportsEveryLine() throws Exception {
+        Model model = new ModelManager();
+
+        CommandResult result = batchOf(new PersonAddCommand(ALICE), new PersonAddCommand(BENSON)).execute(model);
+
+        assertEquals(List.of(ALICE, BENSON), model.getAddressBook().getPersonList());
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith("Executed 2 commands in "));
+        assertTrue(feedback.contains(String.format(BatchCommand.MESSAGE_LINE, 1,
+                String.format(PersonAddCommand.MESSAGE_SUCCESS, Messages.format(ALICE)))));
+        assertTrue(feedback.contains(String.format(BatchCommand.MESSAGE_LINE, 2,
+                String.format(PersonAddCommand.MESSAGE_SUCCESS, Messages.format(BENSON)))));
+    }
+
+    @Test
+    public void execute_commandFails_earlierChangesRolledBack() {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.publishSnapshot();
+
+        CommandException thrown = assertThrows(CommandException.class, () ->
+                batchOf(new PersonAddCommand(BENSON), new PersonAddCommand(ALICE)).execute(model));
+
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+        assertEquals(model.getSnapshot().getPersons(), model.getAddressBook().getPersonList());
+        assertTrue(thrown.getMessage().startsWith("Line 2 failed after "));
+        assertTrue(thrown.getMessage().endsWith(String.format(BatchCommand.MESSAGE_LINE, 2,
+                PersonAddCommand.MESSAGE_DUPLICATE_PERSON)));
+    }
+
+    @Test
+    public void execute_exitCommandInBatch_resultExits() throws Exception {
+        CommandResult result = batchOf(new ListCommand(), new ExitCommand()).execute(new ModelManager());
+        assertTrue(result.isExit());
+        assertFalse(result.isShowHelp());
+    }
+
+    @Test
+    public void isReplayable() {
+        assertFalse(batchOf(new ListCommand()).isReplayable());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = batchOf(new PersonAddCommand(ALICE), new PersonAddCommand(BENSON));
+
+        // same values -> returns true
+        assertEquals(batchCommand, batchOf(new PersonAddCommand(ALICE), new PersonAddCommand(BENSON)));
+
+        // same object -> returns true
+        assertEquals(batchCommand, batchCommand);
+
+        // null -> returns false
+        assertNotEquals(null, batchCommand);
+
+        // different commands -> returns false
+        assertNotEquals(batchCommand, batchOf(new PersonAddCommand(BENSON), new PersonAddCommand(ALICE)));
+    }
+}
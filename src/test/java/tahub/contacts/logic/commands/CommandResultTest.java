@@ -5,8 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import tahub.contacts.model.ModelChange;
+import tahub.contacts.model.person.MatriculationNumber;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -33,6 +38,11 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different changes -> returns false
+        ModelChange change = new ModelChange.PersonRemoved(new MatriculationNumber("A1234567X"));
+        assertFalse(commandResult.equals(commandResult.withChanges(List.of(change))));
+        assertTrue(commandResult.withChanges(List.of(change)).equals(commandResult.withChanges(List.of(change))));
     }
 
     @Test
@@ -57,7 +67,7 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", changes=" + commandResult.getChanges() + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,40 @@
+package tahub.contacts.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tahub.contacts.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tahub.contacts.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelManager;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), new ModelManager(), RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changeUndone_redoesChange() throws Exception {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.publishSnapshot();
+        new UndoCommand().execute(model);
+
+        CommandResult result = new RedoCommand().execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+        assertFalse(model.canRedo());
+    }
+
+    @Test
+    public void isReplayable() {
+        assertFalse(new RedoCommand().isReplayable());
+    }
+}
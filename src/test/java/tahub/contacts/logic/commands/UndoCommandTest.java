@@ -0,0 +1,43 @@
+package tahub.contacts.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tahub.contacts.testutil.TypicalPersons.ALICE;
+import static tahub.contacts.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelManager;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), new ModelManager(), UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesPublished_undoesLastChange() throws Exception {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.publishSnapshot();
+        model.addPerson(BENSON);
+        model.publishSnapshot();
+
+        CommandResult result = new UndoCommand().execute(model);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+        assertTrue(model.canRedo());
+    }
+
+    @Test
+    public void isReplayable() {
+        assertFalse(new UndoCommand().isReplayable());
+    }
+}
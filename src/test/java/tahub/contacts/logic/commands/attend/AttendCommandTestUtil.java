@@ -2,11 +2,14 @@ package tahub.contacts.logic.commands.attend;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import tahub.contacts.commons.core.GuiSettings;
 import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelChange;
+import tahub.contacts.model.ModelSnapshot;
 import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.ReadOnlyUserPrefs;
 import tahub.contacts.model.course.Course;
@@ -76,6 +79,71 @@ public class AttendCommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addListener(Consumer<ModelChange> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeListener(Consumer<ModelChange> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void notifyAttendanceChanged(StudentCourseAssociation sca) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getCourseListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getScaListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void publishSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollback() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudentCourseAssociation(StudentCourseAssociation target, StudentCourseAssociation editedSca) {
             throw new AssertionError("This method should not be called.");
@@ -255,6 +323,11 @@ public class AttendCommandTestUtil {
         public StudentCourseAssociationList getScaList() {
             return scaList;
         }
+
+        @Override
+        public void notifyAttendanceChanged(StudentCourseAssociation sca) {
+            // change tracking is not needed by this stub
+        }
     }
 
     /**
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,8 @@ import tahub.contacts.logic.commands.CommandResult;
 import tahub.contacts.logic.commands.exceptions.CommandException;
 import tahub.contacts.model.AddressBook;
 import tahub.contacts.model.Model;
+import tahub.contacts.model.ModelChange;
+import tahub.contacts.model.ModelSnapshot;
 import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.ReadOnlyUserPrefs;
 import tahub.contacts.model.course.Course;
@@ -98,7 +101,12 @@ public class PersonAddCommandTest {
     private class ModelStub implements Model {
 
         @Override
-        public void addListener(Runnable listener) {
+        public void addListener(Consumer<ModelChange> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeListener(Consumer<ModelChange> listener) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -106,6 +114,60 @@ public class PersonAddCommandTest {
         public void notifyEnrollmentChanged() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void notifyAttendanceChanged(StudentCourseAssociation sca) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getCourseListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getScaListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void publishSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public void rollback() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public void setStudentCourseAssociation(StudentCourseAssociation target, StudentCourseAssociation editedSca) {
             throw new AssertionError("This method should not be called.");
@@ -16,10 +16,13 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import tahub.contacts.logic.commands.BatchCommand;
 import tahub.contacts.logic.commands.ClearCommand;
 import tahub.contacts.logic.commands.ExitCommand;
 import tahub.contacts.logic.commands.HelpCommand;
 import tahub.contacts.logic.commands.ListCommand;
+import tahub.contacts.logic.commands.RedoCommand;
+import tahub.contacts.logic.commands.UndoCommand;
 import tahub.contacts.logic.commands.course.CourseDeleteCommand;
 import tahub.contacts.logic.commands.course.CourseEditCommand;
 import tahub.contacts.logic.commands.person.PersonAddCommand;
@@ -117,6 +120,33 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_batch() throws Exception {
+        Person person = new PersonBuilder().build();
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + "\n"
+                + PersonUtil.getAddCommand(person) + "\n" + PersonUtil.getAddCommand(TypicalPersons.ALICE));
+        assertEquals(new BatchCommand(List.of(new BatchCommand.Line(2, new PersonAddCommand(person)),
+                new BatchCommand.Line(3, new PersonAddCommand(TypicalPersons.ALICE)))), command);
+    }
+
+    @Test
+    public void parseCommand_argumentsOnSeveralLines_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(ListCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,55 @@
+package tahub.contacts.logic.parser;
+
+import static tahub.contacts.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tahub.contacts.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tahub.contacts.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tahub.contacts.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tahub.contacts.testutil.TypicalPersons.ALICE;
+import static tahub.contacts.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tahub.contacts.logic.commands.BatchCommand;
+import tahub.contacts.logic.commands.UndoCommand;
+import tahub.contacts.logic.commands.person.PersonAddCommand;
+import tahub.contacts.testutil.PersonUtil;
+
+public class BatchCommandParserTest {
+
+    private final BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_validLines_returnsBatchCommand() {
+        BatchCommand expectedCommand = new BatchCommand(List.of(
+                new BatchCommand.Line(1, new PersonAddCommand(ALICE)),
+                new BatchCommand.Line(3, new PersonAddCommand(BENSON))));
+
+        assertParseSuccess(parser, " " + PersonUtil.getAddCommand(ALICE) + "\n \r\n"
+                + PersonUtil.getAddCommand(BENSON) + "\n", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLines_reportsEveryInvalidLine() {
+        String expectedMessage = BatchCommand.MESSAGE_INVALID_LINES
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE, 1, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE, 3, BatchCommand.MESSAGE_COMMAND_NOT_BATCHABLE);
+
+        assertParseFailure(parser, " unknownCommand\n" + PersonUtil.getAddCommand(ALICE) + "\n"
+                + UndoCommand.COMMAND_WORD, expectedMessage);
+    }
+
+    @Test
+    public void parse_nestedBatch_throwsParseException() {
+        assertParseFailure(parser, "\n" + BatchCommand.COMMAND_WORD + " " + PersonUtil.getAddCommand(ALICE),
+                BatchCommand.MESSAGE_INVALID_LINES + "\n"
+                + String.format(BatchCommand.MESSAGE_LINE, 2, BatchCommand.MESSAGE_COMMAND_NOT_BATCHABLE));
+    }
+
+    @Test
+    public void parse_noCommands_throwsParseException() {
+        assertParseFailure(parser, " \n\n ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+}
@@ -3,6 +3,7 @@ package tahub.contacts.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tahub.contacts.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static tahub.contacts.testutil.Assert.assertThrows;
@@ -11,9 +12,12 @@ import static tahub.contacts.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +40,7 @@ import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
 import tahub.contacts.model.tutorial.Tutorial;
 import tahub.contacts.testutil.AddressBookBuilder;
+import tahub.contacts.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -294,6 +299,318 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasCourse(course));
     }
 
+    @Test
+    public void addPerson_onlyAddressBookVersionChanges() {
+        long courseListVersion = modelManager.getCourseListVersion();
+        long scaListVersion = modelManager.getScaListVersion();
+        long addressBookVersion = modelManager.getAddressBookVersion();
+
+        modelManager.addPerson(ALICE);
+
+        assertNotEquals(addressBookVersion, modelManager.getAddressBookVersion());
+        assertEquals(courseListVersion, modelManager.getCourseListVersion());
+        assertEquals(scaListVersion, modelManager.getScaListVersion());
+    }
+
+    @Test
+    public void deleteCourse_courseAndScaListVersionsChange() {
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        long addressBookVersion = modelManager.getAddressBookVersion();
+        long courseListVersion = modelManager.getCourseListVersion();
+        long scaListVersion = modelManager.getScaListVersion();
+
+        modelManager.deleteCourse(course);
+
+        assertEquals(addressBookVersion, modelManager.getAddressBookVersion());
+        assertNotEquals(courseListVersion, modelManager.getCourseListVersion());
+        assertNotEquals(scaListVersion, modelManager.getScaListVersion());
+    }
+
+    @Test
+    public void notifyAttendanceChanged_scaListVersionChanges() {
+        modelManager.addSca(sca);
+        long scaListVersion = modelManager.getScaListVersion();
+
+        sca.getAttendance().addAttendedLesson();
+        modelManager.notifyAttendanceChanged(sca);
+
+        assertNotEquals(scaListVersion, modelManager.getScaListVersion());
+    }
+
+    @Test
+    public void addListener_modelChanged_listenerReceivesChangesWithKeys() {
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addListener(changes::add);
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.notifyAttendanceChanged(sca);
+        modelManager.setCourse(course, new Course(course.courseCode, new CourseName("Programming Methodology")));
+        modelManager.deleteCourse(modelManager.getCourseList().getCourseWithCourseCode(course.courseCode));
+
+        MatriculationNumber matric = ALICE.getMatricNumber();
+        String tutorialId = sca.getTutorial().getTutorialId();
+        assertEquals(List.of(
+                new ModelChange.PersonAdded(matric),
+                new ModelChange.CourseAdded(course.courseCode),
+                new ModelChange.ScaAdded(matric, course.courseCode, tutorialId),
+                new ModelChange.PersonUpdated(matric, matric),
+                new ModelChange.AttendanceChanged(matric, course.courseCode, tutorialId),
+                new ModelChange.CourseRenamed(course.courseCode, course.courseCode, Set.of(matric)),
+                new ModelChange.ScaRemoved(matric, course.courseCode, tutorialId),
+                new ModelChange.CourseRemoved(course.courseCode)), changes);
+    }
+
+    @Test
+    public void getSnapshot_modelChangedWithoutPublishing_returnsPublishedData() {
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+        modelManager.addPerson(ALICE);
+
+        assertSame(snapshot, modelManager.getSnapshot());
+        assertTrue(snapshot.getPersons().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersons().add(ALICE));
+    }
+
+    @Test
+    public void publishSnapshot_nothingChanged_keepsSnapshot() {
+        modelManager.addPerson(ALICE);
+        modelManager.publishSnapshot();
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+
+        modelManager.publishSnapshot();
+
+        assertSame(snapshot, modelManager.getSnapshot());
+        assertEquals(List.of(ALICE), snapshot.getPersons());
+    }
+
+    @Test
+    public void publishSnapshot_attendanceChanged_sharesUnchangedStoresAndFreezesAttendance() {
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        modelManager.publishSnapshot();
+        ModelSnapshot before = modelManager.getSnapshot();
+
+        sca.getAttendance().addAttendedLesson();
+        modelManager.notifyAttendanceChanged(sca);
+        modelManager.publishSnapshot();
+        ModelSnapshot after = modelManager.getSnapshot();
+
+        assertSame(before.getPersons(), after.getPersons());
+        assertSame(before.getCourses(), after.getCourses());
+        assertEquals(0, before.getScasOfStudent(ALICE.getMatricNumber()).get(0)
+                .getAttendance().getAttendanceTotalCount());
+        assertEquals(1, after.getScasOfStudent(ALICE.getMatricNumber()).get(0)
+                .getAttendance().getAttendanceTotalCount());
+        assertTrue(after.getScasOfStudent(BENSON.getMatricNumber()).isEmpty());
+        assertEquals(after.getScas(), after.toScaList().get());
+    }
+
+    @Test
+    public void undo_attendanceChanged_restoresAttendance() {
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        modelManager.publishSnapshot();
+        sca.getAttendance().addAttendedLesson();
+        modelManager.notifyAttendanceChanged(sca);
+        modelManager.publishSnapshot();
+        List<Person> persons = modelManager.getSnapshot().getPersons();
+
+        modelManager.undo();
+
+        StudentCourseAssociation restoredSca = modelManager.getScaList().findMatch(sca);
+        assertEquals(0, restoredSca.getAttendance().getAttendanceTotalCount());
+        assertEquals(0, modelManager.getSnapshot().getScas().get(0).getAttendance().getAttendanceTotalCount());
+        assertSame(persons, modelManager.getSnapshot().getPersons());
+
+        modelManager.redo();
+
+        restoredSca = modelManager.getScaList().findMatch(sca);
+        assertEquals(1, restoredSca.getAttendance().getAttendanceTotalCount());
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void undo_attendanceChanged_otherStoredDataKept() {
+        StudentCourseAssociation bensonSca = new StudentCourseAssociation(BENSON, course, new Tutorial("T01", course));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        modelManager.addSca(bensonSca);
+        modelManager.publishSnapshot();
+        StudentCourseAssociation keptSca = modelManager.getScaList().get().get(1);
+        sca.getAttendance().addAttendedLesson();
+        modelManager.notifyAttendanceChanged(sca);
+        modelManager.publishSnapshot();
+
+        modelManager.undo();
+
+        // only the enrollment whose attendance changed is replaced
+        assertSame(keptSca, modelManager.getScaList().get().get(1));
+        assertEquals(0, modelManager.getScaList().get().get(0).getAttendance().getAttendanceTotalCount());
+        assertEquals(modelManager.getSnapshot().getScas(), modelManager.getScaList().get());
+    }
+
+    @Test
+    public void undo_personEdited_enrollmentsFollowRestoredPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        modelManager.publishSnapshot();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.publishSnapshot();
+        assertEquals(editedAlice, modelManager.getSnapshot().getScas().get(0).getStudent());
+
+        modelManager.undo();
+
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(ALICE, modelManager.getSnapshot().getScas().get(0).getStudent());
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, modelManager.getScaList().findMatch(sca).getStudent());
+    }
+
+    @Test
+    public void undo_personDeleted_enrollmentsFollowLaterEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        modelManager.publishSnapshot();
+        modelManager.deletePerson(ALICE);
+        modelManager.publishSnapshot();
+
+        modelManager.undo();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.publishSnapshot();
+
+        assertEquals(editedAlice, modelManager.getStudentScas(editedAlice).get().get(0).getStudent());
+        assertEquals(editedAlice, modelManager.getSnapshot().getScas().get(0).getStudent());
+    }
+
+    @Test
+    public void publishSnapshot_afterUndo_clearsRedoHistory() {
+        modelManager.addPerson(ALICE);
+        modelManager.publishSnapshot();
+        modelManager.undo();
+        assertTrue(modelManager.canRedo());
+
+        modelManager.addPerson(BENSON);
+        modelManager.publishSnapshot();
+
+        assertFalse(modelManager.canRedo());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void undo_historyDepthReached_oldestChangesForgotten() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        ModelManager modelManager = new ModelManager(new AddressBook(), userPrefs, new UniqueCourseList(),
+                new StudentCourseAssociationList());
+        modelManager.addPerson(ALICE);
+        modelManager.publishSnapshot();
+        modelManager.addPerson(BENSON);
+        modelManager.publishSnapshot();
+
+        modelManager.undo();
+
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndo());
+        assertThrows(IllegalArgumentException.class, modelManager::undo);
+    }
+
+    @Test
+    public void rollback_changesNotPublished_changesDiscarded() {
+        modelManager.addPerson(ALICE);
+        modelManager.publishSnapshot();
+        modelManager.addPerson(BENSON);
+
+        modelManager.rollback();
+
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(modelManager.getSnapshot().getPersons(), modelManager.getAddressBook().getPersonList());
+        modelManager.undo();
+        assertEquals(List.of(), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void rollback_noChanges_listenersNotNotified() {
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addListener(changes::add);
+
+        modelManager.rollback();
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalArgumentException() {
+        assertFalse(modelManager.canUndo());
+        assertThrows(IllegalArgumentException.class, modelManager::undo);
+        assertThrows(IllegalArgumentException.class, modelManager::redo);
+    }
+
+    @Test
+    public void removeListener_listenerRemoved_noLongerNotified() {
+        List<ModelChange> changes = new ArrayList<>();
+        Consumer<ModelChange> listener = changes::add;
+        modelManager.addListener(listener);
+        modelManager.removeListener(listener);
+
+        modelManager.addPerson(ALICE);
+        modelManager.setAddressBook(new AddressBook());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setPerson_personWithScas_scasSeeEditedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        long scaListVersion = modelManager.getScaListVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+
+        modelManager.setPerson(ALICE, editedAlice);
+
+        assertSame(sca, modelManager.getScaList().get().get(0));
+        assertSame(editedAlice, sca.getStudent());
+        assertNotEquals(scaListVersion, modelManager.getScaListVersion());
+    }
+
+    @Test
+    public void setCourse_courseWithScas_scasSeeEditedCourse() {
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(course);
+        modelManager.addSca(sca);
+        Course editedCourse = new Course(course.courseCode, new CourseName("Programming Methodology"));
+
+        modelManager.setCourse(course, editedCourse);
+
+        assertSame(sca, modelManager.getScaList().get().get(0));
+        assertSame(editedCourse, sca.getCourse());
+        assertSame(editedCourse, sca.getTutorial().getCourse());
+    }
+
+    @Test
+    public void updateFilteredPersonList_versionsUnchanged() {
+        long addressBookVersion = modelManager.getAddressBookVersion();
+        long courseListVersion = modelManager.getCourseListVersion();
+        long scaListVersion = modelManager.getScaListVersion();
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        assertEquals(addressBookVersion, modelManager.getAddressBookVersion());
+        assertEquals(courseListVersion, modelManager.getCourseListVersion());
+        assertEquals(scaListVersion, modelManager.getScaListVersion());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
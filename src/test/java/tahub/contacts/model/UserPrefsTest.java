@@ -1,7 +1,12 @@
 package tahub.contacts.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tahub.contacts.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +23,58 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void copyConstructor_filePaths_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCourseListFilePath(Paths.get("courses.json"));
+        userPrefs.setScaListFilePath(Paths.get("scas.json"));
+        userPrefs.setJournalFilePath(Paths.get("custom", "journal.txt"));
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+
+        assertEquals(Paths.get("courses.json"), copy.getCourseListFilePath());
+        assertEquals(Paths.get("scas.json"), copy.getScaListFilePath());
+        assertEquals(Paths.get("custom", "journal.txt"), copy.getJournalFilePath());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void copyConstructor_compactJson_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCompactJson(true);
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+
+        assertTrue(copy.isCompactJson());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void copyConstructor_storageFormat_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStorageFormat(UserPrefs.StorageFormat.BINARY);
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+
+        assertEquals(UserPrefs.StorageFormat.BINARY, copy.getStorageFormat());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void copyConstructor_undoHistoryDepth_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(5);
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+
+        assertEquals(5, copy.getUndoHistoryDepth());
+        assertEquals(userPrefs, copy);
+        assertEquals(userPrefs.hashCode(), copy.hashCode());
+        assertNotEquals(new UserPrefs(), copy);
+        assertTrue(copy.toString().contains("Undo history depth : 5"));
+    }
+
 }
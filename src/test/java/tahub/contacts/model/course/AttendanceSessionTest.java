@@ -3,6 +3,7 @@ package tahub.contacts.model.course;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +35,13 @@ public class AttendanceSessionTest {
         assertTrue(s.getIsSessionAttended());
     }
 
+    @Test
+    @DisplayName("Returns shared sessions from the factory methods")
+    public void factory_sameAttendance_sameInstance() {
+        assertSame(AttendanceSession.createAttended(), AttendanceSession.of(true));
+        assertSame(AttendanceSession.createAbsent(), AttendanceSession.of(false));
+    }
+
     // utility tests
     @Nested
     @DisplayName("utility tests")
@@ -165,6 +165,44 @@ public class AttendanceTest {
         assertEquals(a.getAttendanceList(), List.of(ABSENT, ATTENDED, ATTENDED, ABSENT));
     }
 
+    @Test
+    @DisplayName("Returns correct values after adding more sessions than fit in one word")
+    public void addMany_growsStorage_correctValues() {
+        Attendance a = new Attendance();
+        for (int i = 0; i < 130; i++) {
+            if (i % 3 == 0) {
+                a.addAttendedLesson();
+            } else {
+                a.addAbsentLesson();
+            }
+        }
+        assertEquals(a.getAttendanceAttendedCount(), 44);
+        assertEquals(a.getAttendanceTotalCount(), 130);
+        assertEquals(a.isSessionAttended(129), true);
+        assertEquals(a.isSessionAttended(128), false);
+        assertThrows(IndexOutOfBoundsException.class, () -> a.isSessionAttended(130));
+    }
+
+    @Test
+    @DisplayName("Returns a view that reflects later changes and cannot be modified")
+    public void getAttendanceList_laterChanges_visibleThroughView() {
+        Attendance a = new Attendance();
+        List<AttendanceSession> view = a.getAttendanceList();
+        a.addAttendedLesson();
+        assertEquals(view, SINGULAR_ATTENDED_ATTENDANCE_LIST);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(ABSENT));
+    }
+
+    @Test
+    @DisplayName("Returns an independent copy after copying")
+    public void copy_laterChanges_copyUnchanged() {
+        Attendance a = new Attendance(EXAMPLE_ATTENDANCE_LIST_3_OUT_OF_5);
+        Attendance copy = a.copy();
+        a.addAbsentLesson();
+        assertEquals(copy.getAttendanceList(), EXAMPLE_ATTENDANCE_LIST_3_OUT_OF_5);
+        assertEquals(copy.getAttendanceAttendedCount(), 3);
+    }
+
     @Test
     @DisplayName("Throws correct exception after removing the last session from an empty list")
     public void removeLast_emptyList_throwsException() {
@@ -194,6 +232,17 @@ public class AttendanceTest {
                 assertEquals(a1, a2);
             }
 
+            @Test
+            @DisplayName("same sessions after removing an attended session")
+            public void sameSessionsAfterRemoveLast() throws AttendanceOperationException {
+                Attendance a1 = new Attendance(List.of(ABSENT));
+                a1.addAttendedLesson();
+                a1.removeLast();
+                Attendance a2 = new Attendance(SINGULAR_ABSENT_ATTENDANCE_LIST);
+                assertEquals(a1, a2);
+                assertEquals(a1.hashCode(), a2.hashCode());
+            }
+
             @Test
             @DisplayName("both empty attendance list")
             public void bothEmptyAttendanceList() {
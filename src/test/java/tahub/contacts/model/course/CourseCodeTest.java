@@ -1,6 +1,8 @@
 package tahub.contacts.model.course;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tahub.contacts.testutil.Assert.assertThrows;
 
@@ -60,4 +62,12 @@ public class CourseCodeTest {
         // different values -> returns false
         assertFalse(courseCode.equals(new CourseCode("CS1021")));
     }
+
+    @Test
+    public void of_sameCourseCode_returnsSameInstance() {
+        CourseCode courseCode = CourseCode.of("CS2103T");
+        assertSame(courseCode, CourseCode.of(new String("CS2103T")));
+        assertNotSame(courseCode, CourseCode.of("CS2101"));
+        assertThrows(IllegalArgumentException.class, () -> CourseCode.of("cs2103t"));
+    }
 }
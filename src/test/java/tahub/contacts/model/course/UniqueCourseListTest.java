@@ -2,13 +2,19 @@ package tahub.contacts.model.course;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import tahub.contacts.model.EntityRef;
 import tahub.contacts.model.course.exceptions.CourseNotFoundException;
 import tahub.contacts.model.course.exceptions.DuplicateCourseException;
 
@@ -164,4 +170,48 @@ public class UniqueCourseListTest {
         List<Course> listWithDuplicateCourses = List.of(course, course);
         assertThrows(DuplicateCourseException.class, () -> uniqueCourseList.setCourses(listWithDuplicateCourses));
     }
+
+    @Test
+    public void setCourses_listWithConflictingCourseCodes_throwsDuplicateCourseException() {
+        Course course = new Course(new CourseCode("CS1010"), new CourseName("Programming Methodology"));
+        Course conflictingCourse = new Course(new CourseCode("CS1010"), new CourseName("Another Name"));
+        List<Course> listWithConflictingCourses = List.of(course, conflictingCourse);
+        assertThrows(DuplicateCourseException.class, () -> uniqueCourseList.setCourses(listWithConflictingCourses));
+    }
+
+    @Test
+    public void setCourses_map_replacesAllInOneChange() {
+        Course course = new Course(new CourseCode("CS1010"), new CourseName("Programming Methodology"));
+        Course otherCourse = new Course(new CourseCode("CS1020"), new CourseName("Data Structures"));
+        uniqueCourseList.setCourses(List.of(course, otherCourse));
+        EntityRef<Course> ref = uniqueCourseList.getCourseRef(course.courseCode);
+        AtomicInteger changes = new AtomicInteger();
+        uniqueCourseList.getCourseList().addListener((ListChangeListener<Course>) change ->
+                changes.incrementAndGet());
+
+        Course editedCourse = new Course(new CourseCode("CS1010"), new CourseName("Programming Methodology I"));
+        Course renamedCourse = new Course(new CourseCode("CS2040"), new CourseName("Data Structures"));
+        uniqueCourseList.setCourses(Map.of(course, editedCourse, otherCourse, renamedCourse));
+
+        assertEquals(1, changes.get());
+        assertEquals(List.of(editedCourse, renamedCourse), uniqueCourseList.getCourseList());
+        assertSame(editedCourse, ref.get());
+        assertNull(uniqueCourseList.getCourseWithCourseCode(otherCourse.courseCode));
+        assertSame(renamedCourse, uniqueCourseList.getCourseWithCourseCode(renamedCourse.courseCode));
+    }
+
+    @Test
+    public void setCourses_mapClashingWithKeptCourse_throwsAndLeavesListUnchanged() {
+        Course course = new Course(new CourseCode("CS1010"), new CourseName("Programming Methodology"));
+        Course otherCourse = new Course(new CourseCode("CS1020"), new CourseName("Data Structures"));
+        uniqueCourseList.setCourses(List.of(course, otherCourse));
+        Course clashingCourse = new Course(new CourseCode("CS1020"), new CourseName("Programming Methodology"));
+        Course missingCourse = new Course(new CourseCode("CS2040"), new CourseName("Data Structures"));
+
+        assertThrows(DuplicateCourseException.class, () ->
+                uniqueCourseList.setCourses(Map.of(course, clashingCourse)));
+        assertThrows(CourseNotFoundException.class, () ->
+                uniqueCourseList.setCourses(Map.of(course, course, missingCourse, missingCourse)));
+        assertEquals(List.of(course, otherCourse), uniqueCourseList.getCourseList());
+    }
 }
@@ -0,0 +1,72 @@
+package tahub.contacts.model.grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AssessmentSchema}.
+ */
+class AssessmentSchemaTest {
+
+    @Test
+    void addAssessment_newAndExistingNames_slotsInOrderAdded() {
+        AssessmentSchema schema = new AssessmentSchema();
+        assertEquals(0, schema.addAssessment("Midterm"));
+        assertEquals(1, schema.addAssessment("Final"));
+        assertEquals(0, schema.addAssessment("Midterm"));
+
+        assertEquals(List.of("Midterm", "Final"), schema.getAssessmentNames());
+        assertEquals(1, schema.indexOf("Final"));
+        assertEquals(-1, schema.indexOf("Quiz"));
+        assertEquals(0.0, schema.getWeight(1));
+    }
+
+    @Test
+    void setWeight_missingAssessment_assessmentAdded() {
+        AssessmentSchema schema = new AssessmentSchema();
+        schema.addAssessment("Midterm");
+        schema.setWeight("Final", 0.6);
+        schema.setWeight("Midterm", 0.4);
+
+        assertEquals(List.of("Midterm", "Final"), schema.getAssessmentNames());
+        assertEquals(0.4, schema.getWeight(0));
+        assertEquals(0.6, schema.getWeight(1));
+    }
+
+    @Test
+    void setWeight_invalidInputs_throwsIllegalArgumentException() {
+        AssessmentSchema schema = new AssessmentSchema();
+        assertThrows(IllegalArgumentException.class, () -> schema.setWeight("Midterm", -0.1));
+        assertThrows(IllegalArgumentException.class, () -> schema.setWeight("Midterm", 1.1));
+        assertThrows(IllegalArgumentException.class, () -> schema.setWeight(" ", 0.5));
+        assertThrows(IllegalArgumentException.class, () -> schema.addAssessment(null));
+        assertEquals(0, schema.size());
+    }
+
+    @Test
+    void getVersion_schemaChanged_versionChanges() {
+        AssessmentSchema schema = new AssessmentSchema();
+        long initialVersion = schema.getVersion();
+        schema.addAssessment("Midterm");
+        long afterAdd = schema.getVersion();
+        schema.setWeight("Midterm", 0.5);
+
+        assertNotEquals(initialVersion, afterAdd);
+        assertNotEquals(afterAdd, schema.getVersion());
+    }
+
+    @Test
+    void getAssessmentNames_schemaChangedAfterwards_namesUnchanged() {
+        AssessmentSchema schema = new AssessmentSchema();
+        schema.addAssessment("Midterm");
+        List<String> names = schema.getAssessmentNames();
+        schema.addAssessment("Final");
+
+        assertEquals(List.of("Midterm"), names);
+    }
+}
@@ -0,0 +1,184 @@
+package tahub.contacts.model.grade;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tahub.contacts.testutil.TypicalPersons.ALICE;
+import static tahub.contacts.testutil.TypicalPersons.BENSON;
+import static tahub.contacts.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.course.CourseCode;
+import tahub.contacts.model.course.CourseName;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+import tahub.contacts.model.tutorial.Tutorial;
+
+/**
+ * Unit tests for {@link CourseGradeMatrix}.
+ */
+class CourseGradeMatrixTest {
+
+    private Course course;
+    private StudentCourseAssociation alice;
+    private StudentCourseAssociation benson;
+    private StudentCourseAssociation carl;
+
+    @BeforeEach
+    void setUp() {
+        course = new Course(new CourseCode("CS1010"), new CourseName("Introduction to CS"));
+        alice = new StudentCourseAssociation(ALICE, course, new Tutorial("T01", course));
+        benson = new StudentCourseAssociation(BENSON, course, new Tutorial("T01", course));
+        carl = new StudentCourseAssociation(CARL, course, new Tutorial("T02", course));
+
+        alice.getGradingSystem().addGrade("Midterm", 80.0);
+        alice.getGradingSystem().addGrade("Final", 60.0);
+        alice.getGradingSystem().setAssessmentWeight("Midterm", 0.4);
+        alice.getGradingSystem().setAssessmentWeight("Final", 0.6);
+        benson.getGradingSystem().addGrade("Midterm", 50.0);
+        benson.getGradingSystem().addGrade("Quiz", 100.0);
+        // carl has no grades
+    }
+
+    @Test
+    void of_enrollments_assessmentsInSchemaOrder() {
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice, benson, carl));
+        assertEquals(List.of("Midterm", "Final", "Quiz"), matrix.getAssessmentNames());
+        assertEquals(List.of(alice, benson, carl), matrix.getEnrollments());
+    }
+
+    @Test
+    void getScore_missingGrade_returnsMinusOne() {
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice, benson, carl));
+        assertEquals(80.0, matrix.getScore(0, "Midterm"), 0.001);
+        assertEquals(-1.0, matrix.getScore(2, "Midterm"), 0.001);
+        assertEquals(-1.0, matrix.getScore(0, "Unknown"), 0.001);
+    }
+
+    @Test
+    void getAverageAndMedian_onlyGradedEnrollmentsCounted() {
+        benson.getGradingSystem().addGrade("Final", 90.0);
+        carl.getGradingSystem().addGrade("Final", 70.0);
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice, benson, carl));
+
+        assertEquals(65.0, matrix.getAverage("Midterm"), 0.001);
+        assertEquals(65.0, matrix.getMedian("Midterm"), 0.001);
+        assertEquals(220.0 / 3, matrix.getAverage("Final"), 0.001);
+        assertEquals(70.0, matrix.getMedian("Final"), 0.001);
+        assertEquals(-1.0, matrix.getAverage("Unknown"), 0.001);
+        assertEquals(-1.0, matrix.getMedian("Unknown"), 0.001);
+    }
+
+    @Test
+    void getOverallScores_sameAsGradingSystem() {
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice, benson, carl));
+        double[] expected = {
+            alice.getGradingSystem().getOverallScore(),
+            benson.getGradingSystem().getOverallScore(),
+            carl.getGradingSystem().getOverallScore()
+        };
+        assertArrayEquals(expected, matrix.getOverallScores(), 0.001);
+        assertEquals(-1.0, matrix.getOverallScores()[2], 0.001);
+    }
+
+    @Test
+    void getOverallScores_courseWeightChanged_allEnrollmentsAffected() {
+        course.getAssessmentSchema().setWeight("Quiz", 0.6);
+        course.getAssessmentSchema().setWeight("Midterm", 0.4);
+        course.getAssessmentSchema().setWeight("Final", 0.0);
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice, benson));
+
+        assertArrayEquals(new double[] {80.0 * 0.4 + 60.0 * 0.6, 50.0 * 0.4 + 100.0 * 0.6},
+                matrix.getOverallScores(), 0.001);
+    }
+
+    @Test
+    void of_gradingSystemWithOwnSchema_gradesLookedUpByName() {
+        GradingSystem ownGrades = new GradingSystem();
+        ownGrades.addGrade("Lab", 100.0);
+        ownGrades.addGrade("Final", 40.0);
+        StudentCourseAssociation other = new StudentCourseAssociation(CARL, course, new Tutorial("T02", course),
+                carl.getAttendance(), ownGrades);
+
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice, other));
+
+        assertEquals(40.0, matrix.getScore(1, "Final"), 0.001);
+        assertEquals(-1.0, matrix.getScore(1, "Lab"), 0.001);
+    }
+
+    @Test
+    void getOverallScores_weightsExceedOne_throwsIllegalStateException() {
+        benson.getGradingSystem().setAssessmentWeight("Final", 0.0);
+        benson.getGradingSystem().setAssessmentWeight("Quiz", 0.7);
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice, benson));
+        assertThrows(IllegalStateException.class, matrix::getOverallScores);
+    }
+
+    @Test
+    void of_gradesChangedAfterwards_matrixUnchanged() {
+        CourseGradeMatrix matrix = CourseGradeMatrix.of(course, List.of(alice));
+        alice.getGradingSystem().addGrade("Midterm", 10.0);
+        assertEquals(80.0, matrix.getScore(0, "Midterm"), 0.001);
+    }
+
+    @Test
+    void getGradeMatrix_scaList_onlyEnrollmentsOfCourse() {
+        Course otherCourse = new Course(new CourseCode("CS2030"), new CourseName("Programming Methodology II"));
+        StudentCourseAssociation otherSca = new StudentCourseAssociation(ALICE, otherCourse,
+                new Tutorial("T01", otherCourse));
+        otherSca.getGradingSystem().addGrade("Lab", 100.0);
+        StudentCourseAssociationList scaList = new StudentCourseAssociationList();
+        scaList.add(alice);
+        scaList.add(otherSca);
+        scaList.add(benson);
+
+        CourseGradeMatrix matrix = scaList.getGradeMatrix(course);
+
+        assertEquals(List.of(alice, benson), matrix.getEnrollments());
+        assertEquals(List.of("Midterm", "Final", "Quiz"), matrix.getAssessmentNames());
+    }
+
+    @Test
+    void getGradeMatrix_courseUnchanged_sameMatrix() {
+        StudentCourseAssociationList scaList = new StudentCourseAssociationList();
+        scaList.add(alice);
+        CourseGradeMatrix matrix = scaList.getGradeMatrix(course);
+
+        assertSame(matrix, scaList.getGradeMatrix(course));
+
+        // another course changing does not affect the matrix
+        Course otherCourse = new Course(new CourseCode("CS2030"), new CourseName("Programming Methodology II"));
+        scaList.add(new StudentCourseAssociation(ALICE, otherCourse, new Tutorial("T01", otherCourse)));
+        assertSame(matrix, scaList.getGradeMatrix(course));
+    }
+
+    @Test
+    void getGradeMatrix_courseChanged_matrixRebuilt() {
+        StudentCourseAssociationList scaList = new StudentCourseAssociationList();
+        scaList.add(alice);
+        CourseGradeMatrix matrix = scaList.getGradeMatrix(course);
+
+        // grade marked as modified
+        alice.getGradingSystem().addGrade("Midterm", 10.0);
+        scaList.markModified(alice);
+        CourseGradeMatrix modifiedMatrix = scaList.getGradeMatrix(course);
+        assertNotSame(matrix, modifiedMatrix);
+        assertEquals(10.0, modifiedMatrix.getScore(0, "Midterm"), 0.001);
+
+        // enrollment added
+        scaList.add(benson);
+        CourseGradeMatrix addedMatrix = scaList.getGradeMatrix(course);
+        assertEquals(List.of(alice, benson), addedMatrix.getEnrollments());
+
+        // assessment weight changed
+        course.getAssessmentSchema().setWeight("Midterm", 0.5);
+        assertNotSame(addedMatrix, scaList.getGradeMatrix(course));
+    }
+}
@@ -168,6 +168,38 @@ class GradingSystemTest {
         Assertions.assertThrows(IllegalStateException.class, () -> gradingSystem.getOverallScore());
     }
 
+    /**
+     * Tests that unweighted assessments share the weight that is left over.
+     */
+    @Test
+    void testMixedWeightedAndUnweightedGrades() {
+        gradingSystem.addGrade("Midterm", 80.0);
+        gradingSystem.addGrade("Quiz1", 60.0);
+        gradingSystem.addGrade("Quiz2", 100.0);
+        gradingSystem.setAssessmentWeight("Midterm", 0.5);
+
+        // 80 * 0.5 + (60 + 100) * 0.25
+        Assertions.assertEquals(80.0, gradingSystem.getOverallScore(), 0.001);
+    }
+
+    /**
+     * Tests that the overall score follows changes to scores and weights of existing assessments.
+     */
+    @Test
+    void testOverallScoreAfterRepeatedUpdates() {
+        gradingSystem.addGrade("Midterm", 50.0);
+        gradingSystem.addGrade("Final", 70.0);
+        gradingSystem.setAssessmentWeight("Midterm", 0.9);
+        gradingSystem.setAssessmentWeight("Midterm", 0.3);
+        gradingSystem.setAssessmentWeight("Final", 0.7);
+        gradingSystem.addGrade("Midterm", 60.0);
+        gradingSystem.setAssessmentWeight("Final", 0.0);
+
+        // Final is unweighted again, so it takes the remaining 0.7
+        Assertions.assertEquals(60.0 * 0.3 + 70.0 * 0.7, gradingSystem.getOverallScore(), 0.001);
+        Assertions.assertEquals(Map.of("Midterm", 0.3), gradingSystem.getAllWeights());
+    }
+
     /**
      * Tests updating existing grades.
      */
@@ -179,4 +211,24 @@ class GradingSystemTest {
         Assertions.assertEquals(90.0, gradingSystem.getGrade("Midterm"), 0.001);
         Assertions.assertEquals(0.4, gradingSystem.getAllWeights().get("Midterm"), 0.001);
     }
+
+    /**
+     * Tests that grading systems sharing a schema share the weights of its assessments, but not the scores.
+     */
+    @Test
+    void testSharedSchema() {
+        AssessmentSchema schema = new AssessmentSchema();
+        GradingSystem first = new GradingSystem(schema);
+        GradingSystem second = new GradingSystem(schema);
+        first.addGrade("Midterm", 80.0);
+        first.addGrade("Final", 60.0);
+        second.addGrade("Final", 90.0);
+        Assertions.assertEquals(70.0, first.getOverallScore(), 0.001);
+
+        second.setAssessmentWeight("Midterm", 0.25);
+
+        Assertions.assertEquals(80.0 * 0.25 + 60.0 * 0.75, first.getOverallScore(), 0.001);
+        Assertions.assertEquals(-1.0, second.getGrade("Midterm"), 0.001);
+        Assertions.assertEquals(Map.of("Final", 90.0), second.getAllGrades());
+    }
 }
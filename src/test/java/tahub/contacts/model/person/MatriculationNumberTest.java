@@ -0,0 +1,68 @@
+package tahub.contacts.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MatriculationNumberTest {
+
+    @Test
+    public void constructor_invalidMatriculationNumber_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new MatriculationNumber(null));
+        assertThrows(IllegalArgumentException.class, () -> new MatriculationNumber("A1234567"));
+    }
+
+    @Test
+    public void isValidMatriculationNumber() {
+        // null matriculation number
+        assertThrows(NullPointerException.class, () -> MatriculationNumber.isValidMatriculationNumber(null));
+
+        // invalid matriculation numbers
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("")); // empty string
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("B1234567X")); // does not start with A
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A123456X")); // only 6 digits
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A12345678X")); // 8 digits
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A1234567x")); // lowercase letter
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A12E4567X")); // letter within digits
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A1234567 ")); // trailing space
+
+        // valid matriculation numbers
+        assertTrue(MatriculationNumber.isValidMatriculationNumber("A0000000A"));
+        assertTrue(MatriculationNumber.isValidMatriculationNumber("A9999999Z"));
+    }
+
+    @Test
+    public void pack_validMatriculationNumbers_distinctValues() {
+        assertEquals(0, MatriculationNumber.pack("A0000000A"));
+        assertEquals(9_999_999L * 26 + 25, MatriculationNumber.pack("A9999999Z"));
+        assertNotEquals(MatriculationNumber.pack("A1234567X"), MatriculationNumber.pack("A1234567Y"));
+        assertNotEquals(MatriculationNumber.pack("A1234567X"), MatriculationNumber.pack("A1234568X"));
+        assertEquals(-1, MatriculationNumber.pack("A1234567"));
+        assertEquals(MatriculationNumber.pack("A1234567X"), new MatriculationNumber("A1234567X").toLong());
+    }
+
+    @Test
+    public void equals() {
+        MatriculationNumber matricNumber = new MatriculationNumber("A1234567X");
+
+        // same values -> returns true
+        assertTrue(matricNumber.equals(new MatriculationNumber("A1234567X")));
+        assertEquals(matricNumber.hashCode(), new MatriculationNumber("A1234567X").hashCode());
+
+        // same object -> returns true
+        assertTrue(matricNumber.equals(matricNumber));
+
+        // null -> returns false
+        assertFalse(matricNumber.equals(null));
+
+        // different types -> returns false
+        assertFalse(matricNumber.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(matricNumber.equals(new MatriculationNumber("A1234567Y")));
+    }
+}
@@ -3,6 +3,7 @@ package tahub.contacts.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tahub.contacts.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tahub.contacts.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -13,9 +14,14 @@ import static tahub.contacts.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
+import tahub.contacts.model.EntityRef;
 import tahub.contacts.model.person.exceptions.DuplicatePersonException;
 import tahub.contacts.model.person.exceptions.PersonNotFoundException;
 import tahub.contacts.testutil.PersonBuilder;
@@ -196,4 +202,92 @@ public class UniquePersonListTest {
         uniquePersonList.add(ALICE);
         assertEquals(ALICE, uniquePersonList.getPersonByMatricNumber(ALICE.getMatricNumber()));
     }
+
+    @Test
+    public void getPersonByMatricNumberString_invalidMatricNumber_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.getPersonByMatricNumber("not a matric number"));
+    }
+
+    @Test
+    public void getPersonByMatricNumber_afterSetPersonWithDifferentIdentity_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertNull(uniquePersonList.getPersonByMatricNumber(ALICE.getMatricNumber()));
+        assertEquals(BOB, uniquePersonList.getPersonByMatricNumber(BOB.getMatricNumber()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_afterRemovingEarlierPerson_replacesCorrectPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(List.of(editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertNull(uniquePersonList.getPersonByMatricNumber(ALICE.getMatricNumber()));
+    }
+
+    @Test
+    public void getPersonRef_personEdited_refFollowsEdits() {
+        uniquePersonList.add(ALICE);
+        EntityRef<Person> ref = uniquePersonList.getPersonRef(ALICE.getMatricNumber());
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertSame(editedAlice, ref.get());
+
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        assertSame(ALICE, ref.get());
+        assertSame(ref, uniquePersonList.getPersonRef(ALICE.getMatricNumber()));
+
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getPersonRef(ALICE.getMatricNumber()));
+    }
+
+    @Test
+    public void setPersons_map_replacesAllInOneChange() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        EntityRef<Person> aliceRef = uniquePersonList.getPersonRef(ALICE.getMatricNumber());
+        AtomicInteger changes = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changes.incrementAndGet());
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPersons(Map.of(ALICE, editedAlice, BOB, editedBob));
+
+        assertEquals(1, changes.get());
+        assertEquals(List.of(editedAlice, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertSame(editedAlice, aliceRef.get());
+        assertSame(editedBob, uniquePersonList.getPersonByMatricNumber(BOB.getMatricNumber()));
+    }
+
+    @Test
+    public void setPersons_mapSwappingIdentities_success() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        uniquePersonList.setPersons(Map.of(ALICE, BOB, BOB, ALICE));
+        assertEquals(List.of(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertSame(ALICE, uniquePersonList.getPersonByMatricNumber(ALICE.getMatricNumber()));
+    }
+
+    @Test
+    public void setPersons_mapClashingWithKeptPerson_throwsAndLeavesListUnchanged() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Map.of(ALICE, editedAlice, BOB, editedAlice)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Map.of(ALICE, BOB)));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_mapTargetNotInList_throwsAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.setPersons(Map.of(ALICE, editedAlice, BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
 }
@@ -2,12 +2,15 @@ package tahub.contacts.model.studentcourseassociation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
@@ -26,6 +30,7 @@ import tahub.contacts.model.person.MatriculationNumber;
 import tahub.contacts.model.person.Name;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.person.Phone;
+import tahub.contacts.model.studentcourseassociation.exceptions.DuplicateScaException;
 import tahub.contacts.model.studentcourseassociation.exceptions.ScaNotFoundException;
 import tahub.contacts.model.tag.Tag;
 import tahub.contacts.model.tutorial.Tutorial;
@@ -202,6 +207,83 @@ public class StudentCourseAssociationListTest {
         assertThrows(RuntimeException.class, () -> scaList.add(sca1));
     }
 
+    @Test
+    public void add_sameIdentityDifferentStudentDetails_throwsRuntimeException() {
+        Person editedStudent1 = new PersonBuilder().withMatriculationNumber("A1234567X").build();
+        StudentCourseAssociation sameIdentitySca = new StudentCourseAssociation(editedStudent1, course1, tutorial1);
+        assertFalse(scaList.contains(sameIdentitySca));
+        assertThrows(RuntimeException.class, () -> scaList.add(sameIdentitySca));
+    }
+
+    @Test
+    public void set_validSca_lookupsReflectEditedSca() {
+        StudentCourseAssociation editedSca = new StudentCourseAssociation(student2, course2, tutorial2);
+        scaList.set(sca1, editedSca);
+        assertEquals(FXCollections.observableArrayList(sca2), scaList.get(student1));
+        assertEquals(FXCollections.observableArrayList(sca3, editedSca), scaList.get(student2));
+        assertEquals(FXCollections.observableArrayList(sca3), scaList.get(course1, tutorial1));
+        assertEquals(editedSca, scaList.findMatch(editedSca));
+        assertThrows(ScaNotFoundException.class, () -> scaList.findMatch(sca1));
+    }
+
+    @Test
+    public void remove_existingSca_lookupsNoLongerFindSca() {
+        scaList.remove(sca1);
+        assertFalse(scaList.contains(sca1));
+        assertEquals(FXCollections.observableArrayList(sca2), scaList.getByMatric("A1234567X"));
+        assertEquals(FXCollections.observableArrayList(sca3), scaList.get(course1));
+        assertThrows(ScaNotFoundException.class, () -> scaList.getFromStrings("A1234567X", "CS1010", "T01"));
+    }
+
+    @Test
+    public void remove_course_lookupsNoLongerFindCourseScas() {
+        scaList.remove(course1);
+        assertEquals(FXCollections.observableArrayList(), scaList.get(course1));
+        assertEquals(FXCollections.observableArrayList(sca2), scaList.get(student1));
+        scaList.add(sca1);
+        assertTrue(scaList.contains(sca1));
+    }
+
+    @Test
+    public void set_map_replacesAllInOneChange() {
+        AtomicInteger changes = new AtomicInteger();
+        scaList.asUnmodifiableObservableList().addListener((ListChangeListener<StudentCourseAssociation>) change ->
+                changes.incrementAndGet());
+        StudentCourseAssociation editedSca1 = new StudentCourseAssociation(student1, course1, tutorial2);
+        StudentCourseAssociation editedSca3 = new StudentCourseAssociation(student2, course2, tutorial2);
+
+        scaList.set(Map.of(sca1, editedSca1, sca3, editedSca3));
+
+        assertEquals(1, changes.get());
+        assertEquals(List.of(editedSca1, sca2, editedSca3), scaList.get());
+        assertEquals(FXCollections.observableArrayList(editedSca1), scaList.get(course1));
+        assertEquals(FXCollections.observableArrayList(sca2, editedSca3), scaList.get(course2));
+    }
+
+    @Test
+    public void set_mapClashingWithKeptSca_throwsAndLeavesListUnchanged() {
+        StudentCourseAssociation editedSca1 = new StudentCourseAssociation(student1, course1, tutorial2);
+        assertThrows(DuplicateScaException.class, () -> scaList.set(Map.of(sca1, sca2)));
+        assertThrows(DuplicateScaException.class, () -> scaList.set(Map.of(sca1, editedSca1, sca3, editedSca1)));
+        assertThrows(ScaNotFoundException.class, () -> scaList.set(Map.of(sca1, editedSca1, editedSca1, sca1)));
+        assertEquals(List.of(sca1, sca2, sca3), scaList.get());
+        assertEquals(FXCollections.observableArrayList(sca1, sca3), scaList.get(course1));
+    }
+
+    @Test
+    public void updateCoursesInScas_severalScas_oneChange() {
+        AtomicInteger changes = new AtomicInteger();
+        scaList.asUnmodifiableObservableList().addListener((ListChangeListener<StudentCourseAssociation>) change ->
+                changes.incrementAndGet());
+        Course editedCourse1 = new Course(new CourseCode("CS1010"), new CourseName("Programming Methodology"));
+
+        scaList.updateCoursesInScas(course1, editedCourse1);
+
+        assertEquals(1, changes.get());
+        assertEquals(2, scaList.get(editedCourse1).size());
+        scaList.get(editedCourse1).forEach(sca -> assertSame(editedCourse1, sca.getCourse()));
+    }
+
     @Test
     public void set_targetNotInList_throwsRuntimeException() {
         StudentCourseAssociation newSca = new StudentCourseAssociation(student1, course1, tutorial2);
@@ -261,6 +343,43 @@ public class StudentCourseAssociationListTest {
         assertFalse(scaList.get().stream().anyMatch(sca -> sca.getCourse().equals(course1)));
     }
 
+    @Test
+    public void markModified_scaAfterEarlierRemoval_onlyItsCopyReplaced() {
+        scaList.remove(sca1);
+        sca3.getAttendance().addAttendedLesson();
+
+        scaList.markModified(sca3);
+
+        assertEquals(0, scaList.asPersistentList().get(0).getAttendance().getAttendanceTotalCount());
+        assertEquals(1, scaList.asPersistentList().get(1).getAttendance().getAttendanceTotalCount());
+    }
+
+    @Test
+    public void markModified_matricNumber_copiesOfStudentScasReplaced() {
+        sca1.getAttendance().addAttendedLesson();
+        sca2.getAttendance().addAttendedLesson();
+        sca3.getAttendance().addAttendedLesson();
+
+        scaList.markModified(student1.getMatricNumber());
+
+        assertEquals(1, scaList.asPersistentList().get(0).getAttendance().getAttendanceTotalCount());
+        assertEquals(1, scaList.asPersistentList().get(1).getAttendance().getAttendanceTotalCount());
+        assertEquals(0, scaList.asPersistentList().get(2).getAttendance().getAttendanceTotalCount());
+    }
+
+    @Test
+    public void markModified_courseCode_copiesOfCourseScasReplaced() {
+        sca1.getAttendance().addAttendedLesson();
+        sca2.getAttendance().addAttendedLesson();
+        sca3.getAttendance().addAttendedLesson();
+
+        scaList.markModified(course1.courseCode);
+
+        assertEquals(1, scaList.asPersistentList().get(0).getAttendance().getAttendanceTotalCount());
+        assertEquals(0, scaList.asPersistentList().get(1).getAttendance().getAttendanceTotalCount());
+        assertEquals(1, scaList.asPersistentList().get(2).getAttendance().getAttendanceTotalCount());
+    }
+
     @Test
     public void asUnmodifiableObservableList_returnsUnmodifiableList() {
         ObservableList<StudentCourseAssociation> unmodifiableList = scaList.asUnmodifiableObservableList();
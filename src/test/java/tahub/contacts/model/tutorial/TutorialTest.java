@@ -3,6 +3,9 @@ package tahub.contacts.model.tutorial;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -48,4 +51,26 @@ public class TutorialTest {
         assertEquals(tutorial1.hashCode(), tutorial2.hashCode());
         assertNotEquals(tutorial1.hashCode(), tutorial3.hashCode());
     }
+
+    @Test
+    public void of_sameTutorialInCourse_returnsSameInstance() {
+        Course course = new Course(new CourseCode("CS1101S"), new CourseName("Programming Methodology"));
+        Tutorial tutorial = Tutorial.of("T07", course);
+
+        assertSame(tutorial, Tutorial.of("T07", course));
+        assertSame(course, tutorial.getCourse());
+        assertEquals(new Tutorial("T07", course), tutorial);
+        assertThrows(IllegalArgumentException.class, () -> Tutorial.of("T00", course));
+    }
+
+    @Test
+    public void of_replacedCourse_tutorialOfNewCourse() {
+        Course course = new Course(new CourseCode("CS1101S"), new CourseName("Programming Methodology"));
+        Course editedCourse = new Course(new CourseCode("CS1101S"), new CourseName("Programming Methodology I"));
+
+        Tutorial tutorial = Tutorial.of("T07", editedCourse);
+
+        assertNotSame(Tutorial.of("T07", course), tutorial);
+        assertSame(editedCourse, tutorial.getCourse());
+    }
 }
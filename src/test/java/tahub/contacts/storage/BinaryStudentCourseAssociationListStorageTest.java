@@ -0,0 +1,136 @@
+package tahub.contacts.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tahub.contacts.commons.exceptions.DataLoadingException;
+import tahub.contacts.model.AddressBook;
+import tahub.contacts.model.ReadOnlyAddressBook;
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.course.CourseCode;
+import tahub.contacts.model.course.CourseName;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+import tahub.contacts.model.studentcourseassociation.StudentCourseAssociationList;
+import tahub.contacts.model.tutorial.Tutorial;
+import tahub.contacts.testutil.TypicalPersons;
+
+public class BinaryStudentCourseAssociationListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryStudentCourseAssociationListStorage storage;
+    private ReadOnlyAddressBook addressBook;
+    private UniqueCourseList courseList;
+    private StudentCourseAssociationList scaList;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("scas.bin");
+        storage = new BinaryStudentCourseAssociationListStorage(filePath);
+        addressBook = TypicalPersons.getTypicalAddressBook();
+        Course course1 = new Course(new CourseCode("MA1521"), new CourseName("Calculus I"));
+        Course course2 = new Course(new CourseCode("CS2103T"), new CourseName("Software Engineering"));
+        courseList = new UniqueCourseList();
+        courseList.add(course1);
+        courseList.add(course2);
+
+        StudentCourseAssociation sca1 = new StudentCourseAssociation(addressBook.getPersonByMatricNumber("A2345678Y"),
+                course1, new Tutorial("T01", course1));
+        sca1.getAttendance().addAttendedLesson();
+        sca1.getGradingSystem().addGrade("Midterm", 72.5);
+        sca1.getGradingSystem().setAssessmentWeight("Midterm", 0.3);
+        sca1.getGradingSystem().addGrade("Quiz", 100.0);
+        sca1.getAttendance().addAbsentLesson();
+        sca1.getAttendance().addAttendedLesson();
+        StudentCourseAssociation sca2 = new StudentCourseAssociation(addressBook.getPersonByMatricNumber("A1234567X"),
+                course2, new Tutorial("T02", course2));
+        StudentCourseAssociation sca3 = new StudentCourseAssociation(addressBook.getPersonByMatricNumber("A1234567X"),
+                course1, new Tutorial("T01", course1));
+        scaList = new StudentCourseAssociationList();
+        scaList.add(sca1);
+        scaList.add(sca2);
+        scaList.add(sca3);
+    }
+
+    @Test
+    public void readScaList_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readScaList(filePath, addressBook, courseList).isPresent());
+    }
+
+    @Test
+    public void readAndSaveScaList_allInOrder_success() throws Exception {
+        storage.saveScaList(scaList);
+
+        StudentCourseAssociationList readBack = storage.readScaList(filePath, addressBook, courseList).get();
+
+        assertEquals(scaList, readBack);
+        assertEquals(scaList.get().get(0).getAttendance().getAttendanceList(),
+                readBack.get().get(0).getAttendance().getAttendanceList());
+        assertEquals(scaList.get().get(0).getGradingSystem().getAllGrades(),
+                readBack.get().get(0).getGradingSystem().getAllGrades());
+        assertEquals(scaList.get().get(0).getGradingSystem().getAllWeights(),
+                readBack.get().get(0).getGradingSystem().getAllWeights());
+        assertEquals(Map.of(), readBack.get().get(2).getGradingSystem().getAllGrades());
+    }
+
+    @Test
+    public void readScaList_corruptSessionCount_throwsDataLoadingException() throws Exception {
+        storage.saveScaList(scaList);
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // find the session count of the first SCA, after the header, the dictionaries and the start of the record
+        ByteArrayInputStream remaining = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(remaining);
+        in.skipNBytes(9);
+        for (int dictionary = 0; dictionary < 2; dictionary++) {
+            int entryCount = in.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                in.readUTF();
+            }
+        }
+        in.readInt();
+        in.readInt();
+        in.readUTF();
+        in.readInt();
+        in.readInt();
+        ByteBuffer.wrap(bytes).putInt(bytes.length - remaining.available(), Integer.MAX_VALUE);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readScaList(filePath, addressBook, courseList));
+    }
+
+    @Test
+    public void readScaList_studentNotInAddressBook_throwsDataLoadingException() throws Exception {
+        storage.saveScaList(scaList);
+        assertThrows(DataLoadingException.class, () -> storage.readScaList(filePath, new AddressBook(), courseList));
+    }
+
+    @Test
+    public void readScaList_courseNotInCourseList_throwsDataLoadingException() throws Exception {
+        storage.saveScaList(scaList);
+        assertThrows(DataLoadingException.class, () ->
+                storage.readScaList(filePath, addressBook, new UniqueCourseList()));
+    }
+
+    @Test
+    public void saveScaList_emptyList_readsBackEmpty() throws Exception {
+        storage.saveScaList(new StudentCourseAssociationList());
+        assertEquals(List.of(), storage.readScaList(filePath, addressBook, courseList).get().get());
+    }
+}
@@ -0,0 +1,108 @@
+package tahub.contacts.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tahub.contacts.commons.exceptions.DataLoadingException;
+import tahub.contacts.model.AddressBook;
+import tahub.contacts.model.course.Course;
+import tahub.contacts.model.course.CourseCode;
+import tahub.contacts.model.course.CourseName;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.grade.AssessmentSchema;
+
+public class BinaryUniqueCourseListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCourseList_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryUniqueCourseListStorage(filePath).readCourseList().isPresent());
+    }
+
+    @Test
+    public void readCourseList_addressBookSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryUniqueCourseListStorage(filePath).readCourseList());
+    }
+
+    @Test
+    public void readCourseList_notBinarySnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        Files.writeString(filePath, "{ \"courses\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryUniqueCourseListStorage(filePath).readCourseList());
+    }
+
+    @Test
+    public void readAndSaveCourseList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("courses.bin");
+        BinaryUniqueCourseListStorage storage = new BinaryUniqueCourseListStorage(filePath);
+        UniqueCourseList original = new UniqueCourseList();
+        original.add(new Course(new CourseCode("CS1010"), new CourseName("Introduction to CS")));
+        original.add(new Course(new CourseCode("MA1521"), new CourseName("Calculus I")));
+
+        storage.saveCourseList(original);
+
+        assertEquals(original.getCourseList(), storage.readCourseList().get().getCourseList());
+    }
+
+    @Test
+    public void readAndSaveCourseList_courseWithAssessments_assessmentsRestored() throws Exception {
+        Path filePath = testFolder.resolve("courses.bin");
+        BinaryUniqueCourseListStorage storage = new BinaryUniqueCourseListStorage(filePath);
+        Course course = new Course(new CourseCode("CS1010"), new CourseName("Introduction to CS"));
+        course.getAssessmentSchema().setWeight("Midterm", 0.4);
+        course.getAssessmentSchema().addAssessment("Quiz");
+        UniqueCourseList original = new UniqueCourseList();
+        original.add(course);
+
+        storage.saveCourseList(original);
+
+        AssessmentSchema readBack = storage.readCourseList().get().getCourseList().get(0).getAssessmentSchema();
+        assertEquals(List.of("Midterm", "Quiz"), readBack.getAssessmentNames());
+        assertEquals(0.4, readBack.getWeight(0));
+    }
+
+    @Test
+    public void readCourseList_versionOneSnapshot_readWithoutAssessments() throws Exception {
+        Path filePath = testFolder.resolve("courses.bin");
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        record.writeUTF("CS1010");
+        record.writeUTF("Introduction to CS");
+        // fields appended by a later version are skipped, whatever they hold
+        record.writeInt(1);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinarySnapshotFormat.MAGIC);
+            out.writeInt(1);
+            out.writeByte(2);
+            out.writeInt(1);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+
+        List<Course> courses = new BinaryUniqueCourseListStorage(filePath).readCourseList().get().getCourseList();
+
+        assertEquals(List.of(new Course(new CourseCode("CS1010"), new CourseName("Introduction to CS"))), courses);
+        assertEquals(0, courses.get(0).getAssessmentSchema().size());
+    }
+
+    @Test
+    public void saveCourseList_nullCourseList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryUniqueCourseListStorage(testFolder.resolve("SomeFile.bin")).saveCourseList(null));
+    }
+}
@@ -0,0 +1,48 @@
+package tahub.contacts.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tahub.contacts.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandJournal(null));
+    }
+
+    @Test
+    public void readEntries_missingFile_emptyList() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("NonExistentJournal.txt"));
+        assertTrue(journal.readEntries().isEmpty());
+    }
+
+    @Test
+    public void append_multipleCalls_entriesReadBackInOrder() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("nested").resolve("journal.txt"));
+
+        journal.append(List.of("course-add c/CS1010 n/Intro"));
+        journal.append(List.of("list", "help"));
+
+        assertEquals(List.of("course-add c/CS1010 n/Intro", "list", "help"), journal.readEntries());
+    }
+
+    @Test
+    public void clear_afterAppend_noEntries() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("journal.txt"));
+        journal.append(List.of("list"));
+
+        journal.clear();
+
+        assertTrue(journal.readEntries().isEmpty());
+    }
+}
@@ -6,12 +6,15 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import tahub.contacts.commons.exceptions.IllegalValueException;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
 import tahub.contacts.model.course.CourseName;
+import tahub.contacts.model.grade.AssessmentSchema;
 
 public class JsonAdaptedCourseTest {
     private static final String INVALID_COURSE_CODE = "101";
@@ -70,4 +73,31 @@ public class JsonAdaptedCourseTest {
         JsonAdaptedCourse course2 = new JsonAdaptedCourse("CS2101", "Effective Communication");
         assertNotEquals(course1.hashCode(), course2.hashCode());
     }
+
+    @Test
+    public void toModelType_courseWithAssessments_assessmentsRestored() throws Exception {
+        Course source = new Course(new CourseCode(VALID_COURSE_CODE), new CourseName(VALID_COURSE_NAME));
+        source.getAssessmentSchema().setWeight("Midterm", 0.4);
+        source.getAssessmentSchema().addAssessment("Quiz");
+
+        AssessmentSchema restored = new JsonAdaptedCourse(source).toModelType().getAssessmentSchema();
+
+        assertEquals(List.of("Midterm", "Quiz"), restored.getAssessmentNames());
+        assertEquals(0.4, restored.getWeight(0));
+        assertEquals(0.0, restored.getWeight(1));
+    }
+
+    @Test
+    public void toModelType_duplicateAssessments_throwsIllegalValueException() {
+        JsonAdaptedCourse course = new JsonAdaptedCourse(VALID_COURSE_CODE, VALID_COURSE_NAME,
+                List.of(new JsonAdaptedAssessment("Midterm", 0.4), new JsonAdaptedAssessment("Midterm", 0.5)));
+        assertThrows(IllegalValueException.class, course::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidAssessmentWeight_throwsIllegalValueException() {
+        JsonAdaptedCourse course = new JsonAdaptedCourse(VALID_COURSE_CODE, VALID_COURSE_NAME,
+                List.of(new JsonAdaptedAssessment("Midterm", 1.5)));
+        assertThrows(IllegalValueException.class, course::toModelType);
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static tahub.contacts.testutil.TypicalPersons.BENSON;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,8 +19,10 @@ import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
 import tahub.contacts.model.course.CourseName;
 import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.grade.GradingSystem;
 import tahub.contacts.model.person.Person;
 import tahub.contacts.model.studentcourseassociation.StudentCourseAssociation;
+import tahub.contacts.model.tutorial.Tutorial;
 import tahub.contacts.testutil.AttendanceExamples;
 
 public class JsonAdaptedStudentCourseAssociationTest {
@@ -155,6 +158,31 @@ public class JsonAdaptedStudentCourseAssociationTest {
         assertEquals(sca, adaptedSca.toModelType(stubAddressBook, stubCourseList));
     }
 
+    @Test
+    void toModelType_withGrades_gradesRestored() throws IllegalValueException {
+        StudentCourseAssociation sca = new StudentCourseAssociation(validPerson, validCourse,
+                new Tutorial(VALID_TUTORIAL_ID, validCourse), VALID_ATTENDANCE.toModelType());
+        sca.getGradingSystem().addGrade("Midterm", 75.0);
+        sca.getGradingSystem().setAssessmentWeight("Midterm", 0.4);
+        sca.getGradingSystem().addGrade("Quiz", 90.0);
+
+        GradingSystem restored = new JsonAdaptedStudentCourseAssociation(sca)
+                .toModelType(stubAddressBook, stubCourseList).getGradingSystem();
+
+        assertEquals(sca.getGradingSystem().getAllGrades(), restored.getAllGrades());
+        assertEquals(sca.getGradingSystem().getAllWeights(), restored.getAllWeights());
+    }
+
+    @Test
+    void toModelType_invalidGrade_throwsIllegalValueException() {
+        JsonAdaptedStudentCourseAssociation adapter = new JsonAdaptedStudentCourseAssociation(
+                VALID_MATRICULATION_NUMBER, VALID_COURSE_CODE,
+                new JsonAdaptedTutorial(VALID_TUTORIAL_ID, new JsonAdaptedCourse(VALID_COURSE_CODE, VALID_COURSE_NAME)),
+                VALID_ATTENDANCE,
+                Map.of("Midterm", 150.0));
+        assertThrows(IllegalValueException.class, () -> adapter.toModelType(stubAddressBook, stubCourseList));
+    }
+
     @Test
     void toModelType_nullInputs_throwsIllegalValueException() {
         assertThrows(IllegalValueException.class, () -> {
@@ -41,6 +41,18 @@ public class JsonSerializableCourseListTest {
         });
     }
 
+    @Test
+    public void toModelType_duplicateCourseCodes_throwsIllegalValueException() {
+        String duplicateJson = "{\"courses\": [{\"courseCode\": \"CS1010\",\"courseName\": \"Programming\"},"
+                + "{\"courseCode\": \"CS1010\",\"courseName\": \"Other Name\"}]}";
+
+        IllegalValueException thrown = assertThrows(IllegalValueException.class, () -> {
+            JsonSerializableCourseList dataFromFile = MAPPER.readValue(duplicateJson, JsonSerializableCourseList.class);
+            dataFromFile.toModelType();
+        });
+        assertEquals(JsonSerializableCourseList.MESSAGE_DUPLICATE_PERSON, thrown.getMessage());
+    }
+
     @Test
     public void toModelType_emptyCourseList_success() throws Exception {
         String emptyJson = "{\"courses\":[]}";
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import tahub.contacts.commons.exceptions.DataLoadingException;
+import tahub.contacts.model.AddressBook;
 import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.course.Course;
 import tahub.contacts.model.course.CourseCode;
@@ -27,6 +28,7 @@ public class JsonStudentCourseAssociationListStorageTest {
             "JsonStudentCourseAssociationListStorageTest");
     private static final Path VALID_SCA_LIST_FILE = TEST_DATA_FOLDER.resolve("validScaList.json");
     private static final Path INVALID_SCA_LIST_FILE = TEST_DATA_FOLDER.resolve("invalidScaList.json");
+    private static final Path DUPLICATE_SCA_LIST_FILE = TEST_DATA_FOLDER.resolve("duplicateScaList.json");
 
     private JsonStudentCourseAssociationListStorage storage;
     private ReadOnlyAddressBook addressBook;
@@ -65,4 +67,16 @@ public class JsonStudentCourseAssociationListStorageTest {
         assertThrows(
                 DataLoadingException.class, () -> storage.readScaList(INVALID_SCA_LIST_FILE, addressBook, courseList));
     }
+
+    @Test
+    public void readScaList_duplicateSca_throwsDataLoadingException() {
+        assertThrows(
+                DataLoadingException.class, () -> storage.readScaList(DUPLICATE_SCA_LIST_FILE, addressBook, courseList));
+    }
+
+    @Test
+    public void readScaList_studentNotInAddressBook_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> storage.readScaList(VALID_SCA_LIST_FILE,
+                new AddressBook(), courseList));
+    }
 }
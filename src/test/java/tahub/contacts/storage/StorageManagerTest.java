@@ -2,9 +2,13 @@ package tahub.contacts.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tahub.contacts.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,8 @@ import tahub.contacts.commons.core.GuiSettings;
 import tahub.contacts.model.AddressBook;
 import tahub.contacts.model.ReadOnlyAddressBook;
 import tahub.contacts.model.UserPrefs;
+import tahub.contacts.model.course.UniqueCourseList;
+import tahub.contacts.model.util.SampleDataUtil;
 
 public class StorageManagerTest {
 
@@ -63,6 +69,40 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void importFrom_binaryStorage_dataCopied() throws Exception {
+        StorageManager binaryStorage = new StorageManager(new BinaryAddressBookStorage(getTempFilePath("ab.bin")),
+                null, new BinaryUniqueCourseListStorage(getTempFilePath("cl.bin")),
+                new BinaryStudentCourseAssociationListStorage(getTempFilePath("sca.bin")));
+        binaryStorage.saveAddressBook(SampleDataUtil.getSampleAddressBook());
+        binaryStorage.saveCourseList(SampleDataUtil.getSampleCourseList());
+        binaryStorage.saveScaList(SampleDataUtil.getSampleScaList());
+
+        storageManager.importFrom(binaryStorage);
+
+        ReadOnlyAddressBook addressBook = storageManager.readAddressBook().get();
+        UniqueCourseList courseList = storageManager.readCourseList().get();
+        assertEquals(new AddressBook(SampleDataUtil.getSampleAddressBook()), new AddressBook(addressBook));
+        assertEquals(SampleDataUtil.getSampleCourseList().getCourseList(), courseList.getCourseList());
+        assertEquals(SampleDataUtil.getSampleScaList(),
+                storageManager.readScaList(storageManager.getScaListFilePath(), addressBook, courseList).get());
+    }
+
+    @Test
+    public void getLastModifiedTime_noDataFiles_returnsEmpty() throws Exception {
+        assertTrue(storageManager.getLastModifiedTime().isEmpty());
+    }
+
+    @Test
+    public void getLastModifiedTime_dataFilesSaved_returnsLatest() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.saveCourseList(SampleDataUtil.getSampleCourseList());
+        FileTime latest = FileTime.fromMillis(System.currentTimeMillis() + 60_000);
+        Files.setLastModifiedTime(storageManager.getCourseListFilePath(), latest);
+
+        assertEquals(Optional.of(latest), storageManager.getLastModifiedTime());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());